@@ -0,0 +1,57 @@
+package benchmarks;
+
+import main.ProgramParser;
+import main.ast.nodes.Program;
+import main.compileErrorException.DiagnosticSink;
+import main.symbolTable.CompilationContext;
+import main.visitor.nameAnalyzer.IdentifierResolver;
+import main.visitor.nameAnalyzer.NameAnalyzer;
+import main.visitor.typeChecker.TypeChecker;
+import main.visitor.utils.ErrorReporter;
+import org.antlr.v4.runtime.*;
+import parsers.SophiaLexer;
+
+import java.util.List;
+
+//the steps of SophiaCompiler.compile, callable one at a time
+public class CompilerStages {
+    public static List<Token> lex(String source) {
+        SophiaLexer sophiaLexer = new SophiaLexer(CharStreams.fromString(source));
+        sophiaLexer.removeErrorListeners();
+        CommonTokenStream tokenStream = new CommonTokenStream(sophiaLexer);
+        tokenStream.fill();
+        return tokenStream.getTokens();
+    }
+
+    public static Program parse(List<Token> tokens) {
+        return parse(tokens, ProgramParser.Mode.SLL_THEN_LL);
+    }
+
+    public static Program parse(List<Token> tokens, ProgramParser.Mode mode) {
+        return ProgramParser.parse(new CommonTokenStream(new ListTokenSource(tokens)), mode, new BaseErrorListener());
+    }
+
+    public static CompilationContext analyzeNames(Program program) {
+        CompilationContext context = new CompilationContext();
+        new NameAnalyzer(program, context).analyze();
+        return context;
+    }
+
+    public static void resolveIdentifiers(Program program, CompilationContext context) {
+        new IdentifierResolver(context).resolve(program);
+    }
+
+    public static void checkTypes(Program program, CompilationContext context) {
+        program.accept(new TypeChecker(context));
+    }
+
+    //collects the errors of the following stages on this thread
+    public static DiagnosticSink openSink() {
+        return DiagnosticSink.open();
+    }
+
+    //drops the errors collected so far, like the report between name analysis and type checking
+    public static int dropErrors(DiagnosticSink sink) {
+        return new ErrorReporter(compileErrorException -> { }).report(sink);
+    }
+}
@@ -0,0 +1,32 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+//inputs by name: sampleN is samples/sampleN.sop (-Dsophia.samples=<dir> to move it),
+//generated-N is a valid generated program of N classes, erroneous-N the same with errors in a fifth of the statements
+public class Corpus {
+    private static final String GENERATED_PREFIX = "generated-";
+    private static final String ERRONEOUS_PREFIX = "erroneous-";
+
+    public static String load(String name) {
+        if(name.startsWith(GENERATED_PREFIX))
+            return ProgramGenerator.generate(shape(name.substring(GENERATED_PREFIX.length()), 0));
+        if(name.startsWith(ERRONEOUS_PREFIX))
+            return ProgramGenerator.generate(shape(name.substring(ERRONEOUS_PREFIX.length()), 0.2));
+        try {
+            return Files.readString(Paths.get(System.getProperty("sophia.samples", "samples"), name + ".sop"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ProgramGenerator.Shape shape(String classes, double errorDensity) {
+        ProgramGenerator.Shape shape = new ProgramGenerator.Shape();
+        shape.classes = Integer.parseInt(classes);
+        shape.errorDensity = errorDensity;
+        return shape;
+    }
+}
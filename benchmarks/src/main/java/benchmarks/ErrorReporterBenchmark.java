@@ -0,0 +1,47 @@
+package benchmarks;
+
+import main.ast.nodes.Program;
+import main.compileErrorException.DiagnosticSink;
+import main.symbolTable.CompilationContext;
+import main.visitor.utils.ErrorReporter;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//reporting drains the sink, so every invocation gets a freshly type checked program
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorReporterBenchmark {
+    @Param({"sample0", "sample1", "sample2", "sample3", "sample4", "generated-100", "generated-1000", "erroneous-1000"})
+    public String input;
+
+    private List<Token> tokens;
+    private DiagnosticSink sink;
+
+    @Setup(Level.Trial)
+    public void lex() {
+        tokens = CompilerStages.lex(Corpus.load(input));
+    }
+
+    @Setup(Level.Invocation)
+    public void check() {
+        Program program = CompilerStages.parse(tokens);
+        sink = CompilerStages.openSink();
+        CompilationContext context = CompilerStages.analyzeNames(program);
+        CompilerStages.dropErrors(sink);
+        CompilerStages.resolveIdentifiers(program, context);
+        CompilerStages.checkTypes(program, context);
+    }
+
+    @Benchmark
+    public int report(Blackhole blackhole) {
+        return new ErrorReporter(blackhole::consume).report(sink);
+    }
+}
@@ -0,0 +1,39 @@
+package benchmarks;
+
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LexerBenchmark {
+    @Param({"sample0", "sample1", "sample2", "sample3", "sample4", "generated-100", "generated-1000", "erroneous-1000"})
+    public String input;
+
+    private String source;
+
+    //reported as tokens per second next to the per-lex average
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TokenCounter {
+        public long tokens;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = Corpus.load(input);
+    }
+
+    @Benchmark
+    public List<Token> lex(TokenCounter counter) {
+        List<Token> tokens = CompilerStages.lex(source);
+        counter.tokens += tokens.size();
+        return tokens;
+    }
+}
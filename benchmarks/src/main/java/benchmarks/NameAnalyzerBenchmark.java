@@ -0,0 +1,39 @@
+package benchmarks;
+
+import main.ast.nodes.Program;
+import main.symbolTable.CompilationContext;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//name analysis changes the tree, so every invocation gets a freshly parsed program
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NameAnalyzerBenchmark {
+    @Param({"sample0", "sample1", "sample2", "sample3", "sample4", "generated-100", "generated-1000", "erroneous-1000"})
+    public String input;
+
+    private List<Token> tokens;
+    private Program program;
+
+    @Setup(Level.Trial)
+    public void lex() {
+        tokens = CompilerStages.lex(Corpus.load(input));
+    }
+
+    @Setup(Level.Invocation)
+    public void parse() {
+        program = CompilerStages.parse(tokens);
+    }
+
+    @Benchmark
+    public CompilationContext analyze() {
+        return CompilerStages.analyzeNames(program);
+    }
+}
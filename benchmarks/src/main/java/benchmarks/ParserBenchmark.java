@@ -0,0 +1,35 @@
+package benchmarks;
+
+import main.ProgramParser;
+import main.ast.nodes.Program;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+    @Param({"sample0", "sample1", "sample2", "sample3", "sample4", "generated-100", "generated-1000", "erroneous-1000"})
+    public String input;
+
+    @Param({"LL", "SLL_THEN_LL"})
+    public ProgramParser.Mode mode;
+
+    private List<Token> tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokens = CompilerStages.lex(Corpus.load(input));
+    }
+
+    @Benchmark
+    public Program parse() {
+        return CompilerStages.parse(tokens, mode);
+    }
+}
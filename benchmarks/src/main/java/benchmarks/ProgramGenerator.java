@@ -0,0 +1,215 @@
+package benchmarks;
+
+import java.util.Random;
+
+//emits Sophia programs of a tunable shape; with errorDensity 0 they compile without errors
+public class ProgramGenerator {
+    public static class Shape {
+        public int classes = 100;
+        //levels of one inheritance tree, 1 means no inheritance
+        public int inheritanceDepth = 4;
+        public int fanOut = 2;
+        public int methodsPerClass = 2;
+        public int localsPerMethod = 4;
+        public int statementsPerMethod = 6;
+        public int expressionDepth = 3;
+        public int listSize = 10;
+        public int fptrArity = 2;
+        //chance of every statement being replaced by an erroneous one
+        public double errorDensity = 0;
+        public long seed = 1;
+
+        //--name=value for every field above, unknown options are left to the caller
+        public static Shape parse(String[] args) {
+            Shape shape = new Shape();
+            for(String arg : args) {
+                if(!arg.startsWith("--") || !arg.contains("="))
+                    continue;
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+                try {
+                    java.lang.reflect.Field field = Shape.class.getField(name);
+                    if(field.getType() == int.class)
+                        field.setInt(shape, Integer.parseInt(value));
+                    else if(field.getType() == long.class)
+                        field.setLong(shape, Long.parseLong(value));
+                    else
+                        field.setDouble(shape, Double.parseDouble(value));
+                } catch (NoSuchFieldException ignored) {
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return shape;
+        }
+
+        @Override
+        public String toString() {
+            return "classes=" + classes + " depth=" + inheritanceDepth + " fanOut=" + fanOut
+                    + " methods=" + methodsPerClass + " locals=" + localsPerMethod
+                    + " statements=" + statementsPerMethod + " exprDepth=" + expressionDepth
+                    + " listSize=" + listSize + " fptrArity=" + fptrArity + " errors=" + errorDensity;
+        }
+    }
+
+    private final Shape shape;
+    private final Random random;
+    private final StringBuilder source = new StringBuilder();
+    private int currentClass;
+
+    private ProgramGenerator(Shape shape) {
+        this.shape = shape;
+        this.random = new Random(shape.seed);
+    }
+
+    public static String generate(Shape shape) {
+        return new ProgramGenerator(shape).generate();
+    }
+
+    public static void main(String[] args) {
+        System.out.print(generate(Shape.parse(args)));
+    }
+
+    private String generate() {
+        for(int i = 0; i < shape.classes; i++)
+            generateClass(i);
+        generateMain();
+        return source.toString();
+    }
+
+    //classes are laid out tree by tree, each tree complete up to inheritanceDepth levels
+    private int parentOf(int classIndex) {
+        int treeSize = 0;
+        for(int level = 0, width = 1; level < Math.max(shape.inheritanceDepth, 1); level++, width *= Math.max(shape.fanOut, 1))
+            treeSize += width;
+        int positionInTree = classIndex % treeSize;
+        if(positionInTree == 0)
+            return -1;
+        return classIndex - positionInTree + (positionInTree - 1) / Math.max(shape.fanOut, 1);
+    }
+
+    private void generateClass(int classIndex) {
+        currentClass = classIndex;
+        int parent = parentOf(classIndex);
+        source.append("class C").append(classIndex);
+        if(parent >= 0)
+            source.append(" extends C").append(parent);
+        source.append(" {\n");
+        source.append("  f").append(classIndex).append(": int;\n");
+        source.append("  items").append(classIndex).append(": list(").append(Math.max(shape.listSize, 1)).append(" # int);\n");
+        source.append("  fp").append(classIndex).append(": ").append(fptrType()).append(";\n");
+        for(int j = 0; j < shape.methodsPerClass; j++)
+            generateMethod(classIndex, j, parent);
+        source.append("}\n");
+    }
+
+    private String fptrType() {
+        StringBuilder type = new StringBuilder("func<");
+        if(shape.fptrArity == 0)
+            type.append("void");
+        for(int k = 0; k < shape.fptrArity; k++)
+            type.append(k == 0 ? "" : ", ").append("int");
+        return type.append(" -> int>").toString();
+    }
+
+    private void generateMethod(int classIndex, int methodIndex, int parent) {
+        source.append("  def int m").append(classIndex).append('_').append(methodIndex).append('(');
+        for(int k = 0; k < shape.fptrArity; k++)
+            source.append(k == 0 ? "" : ", ").append('p').append(k).append(": int");
+        source.append(") {\n");
+        for(int k = 0; k < shape.localsPerMethod; k++)
+            source.append("    l").append(k).append(": int;\n");
+        source.append("    it: int;\n    flag: bool;\n");
+        for(int s = 0; s < shape.statementsPerMethod; s++) {
+            if(random.nextDouble() < shape.errorDensity)
+                erroneousStatement();
+            else
+                statement(s, classIndex, methodIndex, parent);
+        }
+        source.append("    return ").append(intExpression(shape.expressionDepth)).append(";\n  }\n");
+    }
+
+    private void statement(int statementIndex, int classIndex, int methodIndex, int parent) {
+        switch (statementIndex % 6) {
+            case 0 -> source.append("    ").append(local()).append(" = ").append(intExpression(shape.expressionDepth)).append(";\n");
+            case 1 -> source.append("    flag = ").append(boolExpression(shape.expressionDepth)).append(";\n")
+                    .append("    if (flag) ").append(local()).append(" = ").append(intExpression(1))
+                    .append("; else ").append(local()).append(" = ").append(intExpression(1)).append(";\n");
+            case 2 -> source.append("    for (it = 0; it < ").append(shape.listSize).append("; it = it + 1) {\n")
+                    .append("      this.items").append(classIndex).append("[it] = ").append(intExpression(shape.expressionDepth)).append(";\n")
+                    .append("    }\n");
+            case 3 -> source.append("    foreach (it in this.items").append(classIndex).append(") {\n")
+                    .append("      ").append(local()).append(" = ").append(local()).append(" + it;\n")
+                    .append("    }\n");
+            case 4 -> source.append("    this.fp").append(classIndex).append(" = this.m").append(classIndex).append('_').append(methodIndex).append(";\n")
+                    .append("    ").append(local()).append(" = this.fp").append(classIndex).append(arguments()).append(";\n");
+            default -> {
+                int target = parent >= 0 ? parent : classIndex;
+                source.append("    ").append(local()).append(" = this.m").append(target).append("_0").append(arguments()).append(";\n");
+            }
+        }
+    }
+
+    private void erroneousStatement() {
+        switch (random.nextInt(6)) {
+            case 0 -> source.append("    ").append(local()).append(" = undeclared").append(random.nextInt(100)).append(";\n");
+            case 1 -> source.append("    ").append(local()).append(" = \"text\";\n");
+            case 2 -> source.append("    print(this.items").append(currentClass).append(");\n");
+            case 3 -> source.append("    if (").append(intExpression(1)).append(") flag = true;\n");
+            case 4 -> source.append("    break;\n");
+            default -> source.append("    ").append(local()).append(" = this.m").append(currentClass).append("_0(")
+                    .append("true").append(");\n");
+        }
+    }
+
+    private String arguments() {
+        StringBuilder arguments = new StringBuilder("(");
+        for(int k = 0; k < shape.fptrArity; k++)
+            arguments.append(k == 0 ? "" : ", ").append(intExpression(1));
+        return arguments.append(')').toString();
+    }
+
+    private String local() {
+        if(shape.localsPerMethod == 0)
+            return "it";
+        return "l" + random.nextInt(shape.localsPerMethod);
+    }
+
+    private String intExpression(int depth) {
+        if(depth <= 0) {
+            return switch (random.nextInt(4)) {
+                case 0 -> Integer.toString(random.nextInt(1000));
+                case 1 -> "this.f" + currentClass;
+                case 2 -> "this.items" + currentClass + "[" + random.nextInt(Math.max(shape.listSize, 1)) + "]";
+                default -> local();
+            };
+        }
+        String[] operators = {" + ", " - ", " * "};
+        return "(" + intExpression(depth - 1) + operators[random.nextInt(operators.length)] + intExpression(depth - 1) + ")";
+    }
+
+    private String boolExpression(int depth) {
+        if(depth <= 1)
+            return "(" + intExpression(0) + (random.nextBoolean() ? " < " : " > ") + intExpression(0) + ")";
+        return "(" + boolExpression(depth - 1) + (random.nextBoolean() ? " && " : " || ") + boolExpression(depth - 1) + ")";
+    }
+
+    private void generateMain() {
+        int last = shape.classes - 1;
+        source.append("class Main {\n  def Main() {\n");
+        if(last >= 0) {
+            source.append("    c: C").append(last).append(";\n");
+            source.append("    c = new C").append(last).append("();\n");
+            if(shape.methodsPerClass > 0)
+                source.append("    print(c.m").append(last).append("_0").append(mainArguments()).append(");\n");
+        }
+        source.append("  }\n}\n");
+    }
+
+    private String mainArguments() {
+        StringBuilder arguments = new StringBuilder("(");
+        for(int k = 0; k < shape.fptrArity; k++)
+            arguments.append(k == 0 ? "" : ", ").append(k);
+        return arguments.append(')').toString();
+    }
+}
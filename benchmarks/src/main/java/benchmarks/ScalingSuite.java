@@ -0,0 +1,92 @@
+package benchmarks;
+
+import main.CompilationMetrics;
+import main.CompilationMetrics.Step;
+import main.CompilationResult;
+import main.SophiaCompiler;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//compiles generated programs of doubling size and charts every step's median wall time against the size
+//options: --from=N --to=N (number of classes), --repeat=N, --warmup=N, --csv, and any ProgramGenerator.Shape field
+public class ScalingSuite {
+    private static final int BAR_WIDTH = 50;
+
+    public static void main(String[] args) {
+        int from = intOption(args, "from", 100);
+        int to = intOption(args, "to", 6400);
+        int repeat = intOption(args, "repeat", 5);
+        int warmup = intOption(args, "warmup", 3);
+        boolean csv = Arrays.asList(args).contains("--csv");
+
+        SophiaCompiler sophiaCompiler = new SophiaCompiler();
+        sophiaCompiler.setCollectMetrics(true);
+        List<Integer> sizes = new ArrayList<>();
+        List<long[]> medians = new ArrayList<>();
+        for(int size = from; size <= to; size *= 2) {
+            ProgramGenerator.Shape shape = ProgramGenerator.Shape.parse(args);
+            shape.classes = size;
+            String source = ProgramGenerator.generate(shape);
+            for(int i = 0; i < warmup; i++)
+                sophiaCompiler.compile(CharStreams.fromString(source));
+            long[][] samples = new long[Step.values().length][repeat];
+            for(int i = 0; i < repeat; i++) {
+                CompilationResult result = sophiaCompiler.compile(CharStreams.fromString(source));
+                CompilationMetrics metrics = result.getMetrics();
+                for(Step step : Step.values())
+                    samples[step.ordinal()][i] = metrics.getWallNanos(step);
+            }
+            long[] median = new long[Step.values().length];
+            for(Step step : Step.values()) {
+                Arrays.sort(samples[step.ordinal()]);
+                median[step.ordinal()] = samples[step.ordinal()][repeat / 2];
+            }
+            sizes.add(size);
+            medians.add(median);
+            System.err.println("measured " + size + " classes (" + source.length() / 1024 + " KB)");
+        }
+
+        if(csv)
+            printCsv(sizes, medians);
+        else
+            printChart(sizes, medians);
+    }
+
+    private static void printCsv(List<Integer> sizes, List<long[]> medians) {
+        StringBuilder header = new StringBuilder("classes");
+        for(Step step : Step.values())
+            header.append(',').append(step.name()).append("_ms");
+        System.out.println(header);
+        for(int i = 0; i < sizes.size(); i++) {
+            StringBuilder row = new StringBuilder(sizes.get(i).toString());
+            for(Step step : Step.values())
+                row.append(',').append(String.format("%.3f", medians.get(i)[step.ordinal()] / 1e6));
+            System.out.println(row);
+        }
+    }
+
+    private static void printChart(List<Integer> sizes, List<long[]> medians) {
+        for(Step step : Step.values()) {
+            long max = 1;
+            for(long[] median : medians)
+                max = Math.max(max, median[step.ordinal()]);
+            System.out.println(step.name());
+            for(int i = 0; i < sizes.size(); i++) {
+                long nanos = medians.get(i)[step.ordinal()];
+                System.out.printf("%8d classes %10.3f ms |%s%n", sizes.get(i), nanos / 1e6,
+                        "#".repeat((int) (BAR_WIDTH * nanos / max)));
+            }
+            System.out.println();
+        }
+    }
+
+    private static int intOption(String[] args, String name, int defaultValue) {
+        for(String arg : args)
+            if(arg.startsWith("--" + name + "="))
+                return Integer.parseInt(arg.substring(name.length() + 3));
+        return defaultValue;
+    }
+}
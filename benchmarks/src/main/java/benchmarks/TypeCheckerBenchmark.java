@@ -0,0 +1,46 @@
+package benchmarks;
+
+import main.ast.nodes.Program;
+import main.compileErrorException.DiagnosticSink;
+import main.symbolTable.CompilationContext;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//type checking adds errors to the tree, so every invocation gets a freshly analyzed program
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeCheckerBenchmark {
+    @Param({"sample0", "sample1", "sample2", "sample3", "sample4", "generated-100", "generated-1000", "erroneous-1000"})
+    public String input;
+
+    private List<Token> tokens;
+    private Program program;
+    private CompilationContext context;
+
+    @Setup(Level.Trial)
+    public void lex() {
+        tokens = CompilerStages.lex(Corpus.load(input));
+    }
+
+    @Setup(Level.Invocation)
+    public void analyze() {
+        program = CompilerStages.parse(tokens);
+        DiagnosticSink sink = CompilerStages.openSink();
+        context = CompilerStages.analyzeNames(program);
+        CompilerStages.dropErrors(sink);
+        CompilerStages.resolveIdentifiers(program, context);
+    }
+
+    @Benchmark
+    public Program checkTypes() {
+        CompilerStages.checkTypes(program, context);
+        return program;
+    }
+}
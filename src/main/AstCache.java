@@ -0,0 +1,140 @@
+package main;
+
+import main.ast.file.AstFile;
+import main.ast.nodes.Program;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+//parsed programs on disk, one AstFile per source text. the key is a hash of the text and the compiler's
+//version, so an edited file or a changed parser never finds an old entry. entries are written whole and moved
+//into place, so compilers sharing a directory never see half a file; anything unreadable is a miss
+public class AstCache {
+    //the generated lexer and parser are what the grammar compiles to, so their bytes and the file format make
+    //up the version
+    private static final String[] PARSER_CLASSES = {"/parsers/SophiaLexer.class", "/parsers/SophiaParser.class"};
+    public static final String DEFAULT_DIRECTORY = ".sophia-cache";
+    private static final String EXTENSION = ".ast";
+
+    private static String version;
+    private static boolean versionKnown = false;
+
+    private final Path directory;
+
+    public AstCache() {
+        this(Paths.get(DEFAULT_DIRECTORY));
+    }
+
+    public AstCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    //null when the compiler's version cannot be worked out, which turns the cache off
+    public static synchronized String getVersion() {
+        if(!versionKnown) {
+            version = computeVersion();
+            versionKnown = true;
+        }
+        return version;
+    }
+
+    private static String computeVersion() {
+        MessageDigest digest = sha256();
+        digest.update(Integer.toString(AstFile.FORMAT_VERSION).getBytes(StandardCharsets.UTF_8));
+        for(String parserClass : PARSER_CLASSES) {
+            try(InputStream in = AstCache.class.getResourceAsStream(parserClass)) {
+                if(in == null)
+                    return null;
+                digest.update(in.readAllBytes());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    //null when there is no version to key by
+    public String key(CharStream textStream) {
+        String version = getVersion();
+        if(version == null)
+            return null;
+        String text = textStream.getText(Interval.of(0, textStream.size() - 1));
+        MessageDigest digest = sha256();
+        digest.update(version.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        return hex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String hex(byte[] hash) {
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for(byte b : hash)
+            hex.append(String.format("%02x", b));
+        return hex.toString();
+    }
+
+    //the program stored under the key, null when there is none or it cannot be read
+    public Program load(String key) {
+        Path path = directory.resolve(key + EXTENSION);
+        if(!Files.isRegularFile(path))
+            return null;
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return AstFile.read(buffer);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    //a program that cannot be stored is simply parsed again next time
+    public void store(String key, Program program) {
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, key, ".tmp");
+            try(OutputStream out = Files.newOutputStream(temporary)) {
+                AstFile.write(program, out);
+            }
+            Path path = directory.resolve(key + EXTENSION);
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+        } catch (IOException ignored) {
+        } finally {
+            if(temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package main;
+
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//compiles many programs in one JVM; results are printed in input order, whatever order they finish in
+public class BatchCompiler {
+    public static final String SOURCE_EXTENSION = ".sop";
+
+    private final SophiaCompiler sophiaCompiler;
+    private CompilationMetrics metrics;
+
+    public BatchCompiler(SophiaCompiler sophiaCompiler) {
+        this.sophiaCompiler = sophiaCompiler;
+    }
+
+    //summed over all files of the last batch, null unless the compiler collects metrics
+    public CompilationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int compile(List<String> paths, PrintStream out) throws IOException {
+        metrics = sophiaCompiler.isCollectMetrics() ? new CompilationMetrics() : null;
+        List<Path> sources = collectSources(paths);
+        ExecutorService pool = Executors.newWorkStealingPool();
+        List<CompletableFuture<FileResult>> futures = new ArrayList<>();
+        for(Path source : sources)
+            futures.add(CompletableFuture.supplyAsync(() -> compileFile(source), pool));
+
+        int failed = 0;
+        List<FileResult> results = new ArrayList<>();
+        for(CompletableFuture<FileResult> future : futures) {
+            FileResult result = future.join();
+            results.add(result);
+            out.println("==> " + result.source + " <==");
+            out.print(result.output);
+            if(result.exitStatus != 0)
+                failed++;
+            if(metrics != null && result.metrics != null)
+                metrics.add(result.metrics);
+        }
+        pool.shutdown();
+
+        out.println("==> summary <==");
+        for(FileResult result : results)
+            out.println(result.source + ": " + (result.exitStatus == 0 ? "ok" : "failed"));
+        out.println(sources.size() + " files, " + (sources.size() - failed) + " succeeded, " + failed + " failed");
+        return failed == 0 ? 0 : 1;
+    }
+
+    private FileResult compileFile(Path source) {
+        StringWriter buffer = new StringWriter();
+        int exitStatus;
+        CompilationMetrics fileMetrics = null;
+        try (PrintWriter writer = new PrintWriter(buffer)) {
+            try {
+                CompilationResult result = sophiaCompiler.compile(CharStreams.fromPath(source));
+                result.print(writer, writer);
+                exitStatus = result.getExitStatus();
+                fileMetrics = result.getMetrics();
+            } catch (IOException e) {
+                writer.println("cannot read " + source + ": " + e.getMessage());
+                exitStatus = 1;
+            } catch (CompilationCrashedException e) {
+                e.getPartialResult().print(writer, writer);
+                writer.println("compiler crashed on " + source + ": " + e.getCause());
+                exitStatus = 1;
+            }
+        }
+        return new FileResult(source, exitStatus, buffer.toString(), fileMetrics);
+    }
+
+    private static List<Path> collectSources(List<String> paths) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        for(String name : paths) {
+            Path path = Paths.get(name);
+            if(Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    sources.addAll(walk.filter(p -> Files.isRegularFile(p) && p.toString().endsWith(SOURCE_EXTENSION))
+                            .sorted()
+                            .collect(Collectors.toList()));
+                }
+            }
+            else
+                sources.add(path);
+        }
+        return sources;
+    }
+
+    private static class FileResult {
+        private final Path source;
+        private final int exitStatus;
+        private final String output;
+        private final CompilationMetrics metrics;
+
+        FileResult(Path source, int exitStatus, String output, CompilationMetrics metrics) {
+            this.source = source;
+            this.exitStatus = exitStatus;
+            this.output = output;
+            this.metrics = metrics;
+        }
+    }
+}
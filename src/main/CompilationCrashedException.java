@@ -0,0 +1,17 @@
+package main;
+
+//thrown when a phase fails unexpectedly; carries what was reported before the failure, syntax errors included,
+//so callers can still print it
+public class CompilationCrashedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    private final transient CompilationResult partialResult;
+
+    public CompilationCrashedException(CompilationResult partialResult, RuntimeException cause) {
+        super("compiler crashed: " + cause, cause);
+        this.partialResult = partialResult;
+    }
+
+    public CompilationResult getPartialResult() {
+        return partialResult;
+    }
+}
@@ -0,0 +1,139 @@
+package main;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+//opt-in per step measurements of the compiling thread; the error reports are measured on their own
+public class CompilationMetrics {
+    public enum Step {
+        LEXING, PARSING, NAME_ANALYSIS, NAME_ERROR_REPORT, IDENTIFIER_RESOLUTION, TYPE_CHECKING, TYPE_ERROR_REPORT
+    }
+
+    public static final long UNSUPPORTED = -1;
+    //the step column of the table fits the longest step name
+    private static final int STEP_WIDTH = Arrays.stream(Step.values())
+            .mapToInt(step -> step.name().length()).max().orElse(0);
+
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean hotspotThreads =
+            threads instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) threads : null;
+
+    private final long[] wallNanos = new long[Step.values().length];
+    private final long[] cpuNanos = new long[Step.values().length];
+    private final long[] allocatedBytes = new long[Step.values().length];
+    private long subtypeCacheHits;
+    private long subtypeCacheMisses;
+    private long wallStart;
+    private long cpuStart;
+    private long allocatedStart;
+
+    public void start() {
+        wallStart = System.nanoTime();
+        cpuStart = currentCpuNanos();
+        allocatedStart = currentAllocatedBytes();
+    }
+
+    //closes the running step and starts the next one
+    public void lap(Step step) {
+        long wall = System.nanoTime();
+        long cpu = currentCpuNanos();
+        long allocated = currentAllocatedBytes();
+        wallNanos[step.ordinal()] += wall - wallStart;
+        cpuNanos[step.ordinal()] = add(cpuNanos[step.ordinal()], cpu, cpuStart);
+        allocatedBytes[step.ordinal()] = add(allocatedBytes[step.ordinal()], allocated, allocatedStart);
+        wallStart = wall;
+        cpuStart = cpu;
+        allocatedStart = allocated;
+    }
+
+    public void addSubtypeCacheCounts(long hits, long misses) {
+        subtypeCacheHits += hits;
+        subtypeCacheMisses += misses;
+    }
+
+    public void add(CompilationMetrics other) {
+        subtypeCacheHits += other.subtypeCacheHits;
+        subtypeCacheMisses += other.subtypeCacheMisses;
+        for(int i = 0; i < wallNanos.length; i++) {
+            wallNanos[i] += other.wallNanos[i];
+            cpuNanos[i] = add(cpuNanos[i], other.cpuNanos[i], 0);
+            allocatedBytes[i] = add(allocatedBytes[i], other.allocatedBytes[i], 0);
+        }
+    }
+
+    public long getWallNanos(Step step) {
+        return wallNanos[step.ordinal()];
+    }
+
+    public long getCpuNanos(Step step) {
+        return cpuNanos[step.ordinal()];
+    }
+
+    public long getAllocatedBytes(Step step) {
+        return allocatedBytes[step.ordinal()];
+    }
+
+    public long getSubtypeCacheHits() {
+        return subtypeCacheHits;
+    }
+
+    public long getSubtypeCacheMisses() {
+        return subtypeCacheMisses;
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-" + STEP_WIDTH + "s %12s %12s %15s%n", "step", "wall ms", "cpu ms", "allocated KB"));
+        long wall = 0, cpu = 0, allocated = 0;
+        for(Step step : Step.values()) {
+            appendRow(table, step.name(), getWallNanos(step), getCpuNanos(step), getAllocatedBytes(step));
+            wall += getWallNanos(step);
+            cpu = add(cpu, getCpuNanos(step), 0);
+            allocated = add(allocated, getAllocatedBytes(step), 0);
+        }
+        appendRow(table, "TOTAL", wall, cpu, allocated);
+        table.append(String.format("subtype cache: %d hits, %d misses%n", subtypeCacheHits, subtypeCacheMisses));
+        return table.toString();
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"steps\":[");
+        for(Step step : Step.values()) {
+            if(step.ordinal() > 0)
+                json.append(',');
+            json.append("{\"step\":\"").append(step.name())
+                    .append("\",\"wallNanos\":").append(getWallNanos(step))
+                    .append(",\"cpuNanos\":").append(getCpuNanos(step))
+                    .append(",\"allocatedBytes\":").append(getAllocatedBytes(step))
+                    .append('}');
+        }
+        json.append("],\"subtypeCache\":{\"hits\":").append(subtypeCacheHits)
+                .append(",\"misses\":").append(subtypeCacheMisses).append('}');
+        return json.append('}').toString();
+    }
+
+    private static void appendRow(StringBuilder table, String name, long wall, long cpu, long allocated) {
+        table.append(String.format("%-" + STEP_WIDTH + "s %12.3f %12s %15s%n", name, wall / 1e6,
+                cpu == UNSUPPORTED ? "n/a" : String.format("%.3f", cpu / 1e6),
+                allocated == UNSUPPORTED ? "n/a" : Long.toString(allocated / 1024)));
+    }
+
+    private static long add(long total, long end, long start) {
+        if(total == UNSUPPORTED || end == UNSUPPORTED || start == UNSUPPORTED)
+            return UNSUPPORTED;
+        return total + end - start;
+    }
+
+    private static long currentCpuNanos() {
+        if(!threads.isCurrentThreadCpuTimeSupported())
+            return UNSUPPORTED;
+        return threads.getCurrentThreadCpuTime();
+    }
+
+    private static long currentAllocatedBytes() {
+        if(hotspotThreads == null || !hotspotThreads.isThreadAllocatedMemorySupported())
+            return UNSUPPORTED;
+        return hotspotThreads.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,122 @@
+package main;
+
+import main.ast.nodes.Program;
+import main.compileErrorException.CompileErrorException;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class CompilationResult {
+    public enum Phase {
+        LEXING, PARSING, NAME_ANALYSIS, TYPE_CHECKING
+    }
+
+    public enum Outcome {
+        PASSED, FAILED, SKIPPED
+    }
+
+    private final List<String> syntaxErrors = new ArrayList<>();
+    private final List<CompileErrorException> errors = new ArrayList<>();
+    private final Map<Phase, Outcome> outcomes = new EnumMap<>(Phase.class);
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+    private Program program;
+    private CompilationMetrics metrics;
+    private boolean successful;
+
+    public CompilationResult() {
+        for(Phase phase : Phase.values())
+            outcomes.put(phase, Outcome.SKIPPED);
+    }
+
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    public void setSuccessful(boolean successful) {
+        this.successful = successful;
+    }
+
+    public int getExitStatus() {
+        return successful ? 0 : 1;
+    }
+
+    public Program getProgram() {
+        return program;
+    }
+
+    public void setProgram(Program program) {
+        this.program = program;
+    }
+
+    //in the format antlr's ConsoleErrorListener uses; these do not stop the compilation
+    public List<String> getSyntaxErrors() {
+        return syntaxErrors;
+    }
+
+    public void addSyntaxError(String syntaxError) {
+        this.syntaxErrors.add(syntaxError);
+    }
+
+    //in the order ErrorReporter reports them
+    public List<CompileErrorException> getErrors() {
+        return errors;
+    }
+
+    public void addError(CompileErrorException error) {
+        this.errors.add(error);
+    }
+
+    public List<String> getDiagnostics() {
+        List<String> diagnostics = new ArrayList<>();
+        for(CompileErrorException error : errors)
+            diagnostics.add(error.getMessage());
+        return diagnostics;
+    }
+
+    public Outcome getOutcome(Phase phase) {
+        return outcomes.get(phase);
+    }
+
+    public void setOutcome(Phase phase, Outcome outcome) {
+        this.outcomes.put(phase, outcome);
+    }
+
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos.getOrDefault(phase, 0L);
+    }
+
+    public void setPhaseNanos(Phase phase, long nanos) {
+        this.phaseNanos.put(phase, nanos);
+    }
+
+    //null unless the compiler was asked to collect metrics
+    public CompilationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(CompilationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public long getTotalNanos() {
+        long total = 0;
+        for(long nanos : phaseNanos.values())
+            total += nanos;
+        return total;
+    }
+
+    //what the command line compiler prints, into writers the caller keeps for all its results
+    public void print(PrintWriter out, PrintWriter err) {
+        for(String syntaxError : syntaxErrors)
+            err.println(syntaxError);
+        err.flush();
+        for(CompileErrorException error : errors)
+            out.println(error.getMessage());
+        if(successful)
+            out.println("Compilation successful");
+        out.flush();
+    }
+}
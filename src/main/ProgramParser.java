@@ -0,0 +1,37 @@
+package main;
+
+import main.ast.nodes.Program;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import parsers.SophiaParser;
+
+//the AST is built by the grammar actions, so the parse tree itself is never kept
+public class ProgramParser {
+    public enum Mode {
+        //full LL prediction, what antlr does by default
+        LL,
+        //SLL prediction bailing out at the first syntax error, then LL again from the start only if SLL failed
+        SLL_THEN_LL
+    }
+
+    public static Program parse(CommonTokenStream tokenStream, Mode mode, ANTLRErrorListener errorListener) {
+        SophiaParser sophiaParser = new SophiaParser(tokenStream);
+        sophiaParser.setBuildParseTree(false);
+        sophiaParser.removeErrorListeners();
+        if(mode == Mode.SLL_THEN_LL) {
+            sophiaParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            sophiaParser.setErrorHandler(new BailErrorStrategy());
+            try {
+                return sophiaParser.sophia().sophiaProgram;
+            } catch (ParseCancellationException ignored) {
+            }
+            tokenStream.seek(0);
+            sophiaParser.reset();
+            sophiaParser.setErrorHandler(new DefaultErrorStrategy());
+        }
+        sophiaParser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        sophiaParser.addErrorListener(errorListener);
+        return sophiaParser.sophia().sophiaProgram;
+    }
+}
@@ -3,12 +3,88 @@ package main;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Sophia {
+    private static final String METRICS_OPTION = "--metrics";
+    private static final String PARSE_MODE_OPTION = "--parse-mode=";
+    private static final String AST_CACHE_OPTION = "--ast-cache";
+
+    //options: --metrics (table on stderr) or --metrics=json, --parse-mode=LL or --parse-mode=SLL_THEN_LL (default),
+    //--ast-cache (parsed programs kept in .sophia-cache) or --ast-cache=DIR
     public static void main(String[] args) throws IOException {
-        CharStream reader = CharStreams.fromFileName(args[0]);
+        String metricsFormat = null;
+        ProgramParser.Mode parseMode = ProgramParser.Mode.SLL_THEN_LL;
+        AstCache astCache = null;
+        List<String> paths = new ArrayList<>();
+        for(String arg : args) {
+            if(arg.startsWith(PARSE_MODE_OPTION)) {
+                try {
+                    parseMode = ProgramParser.Mode.valueOf(arg.substring(PARSE_MODE_OPTION.length()));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("unknown parse mode " + arg.substring(PARSE_MODE_OPTION.length())
+                            + ", expected LL or SLL_THEN_LL");
+                    System.exit(2);
+                }
+            }
+            else if(arg.equals(AST_CACHE_OPTION))
+                astCache = new AstCache();
+            else if(arg.startsWith(AST_CACHE_OPTION + "="))
+                astCache = new AstCache(Paths.get(arg.substring(AST_CACHE_OPTION.length() + 1)));
+            else if(arg.equals(METRICS_OPTION))
+                metricsFormat = "table";
+            else if(arg.startsWith(METRICS_OPTION + "="))
+                metricsFormat = arg.substring(METRICS_OPTION.length() + 1);
+            else
+                paths.add(arg);
+        }
+        if(paths.isEmpty()) {
+            System.err.println("usage: sophia [--metrics[=table|json]] [--parse-mode=LL|SLL_THEN_LL] [--ast-cache[=DIR]]"
+                    + " FILE|DIR...");
+            System.exit(2);
+        }
+        if(metricsFormat != null && !metricsFormat.equals("table") && !metricsFormat.equals("json")) {
+            System.err.println("unknown metrics format " + metricsFormat + ", expected table or json");
+            System.exit(2);
+        }
         SophiaCompiler sophiaCompiler = new SophiaCompiler();
-        sophiaCompiler.compile(reader);
+        sophiaCompiler.setCollectMetrics(metricsFormat != null);
+        sophiaCompiler.setParseMode(parseMode);
+        sophiaCompiler.setAstCache(astCache);
+
+        if(paths.size() == 1 && !Files.isDirectory(Paths.get(paths.get(0)))) {
+            CharStream reader = CharStreams.fromFileName(paths.get(0));
+            PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+            PrintWriter err = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.err)));
+            CompilationResult result;
+            try {
+                result = sophiaCompiler.compile(reader);
+            } catch (CompilationCrashedException e) {
+                e.getPartialResult().print(out, err);
+                throw e;
+            }
+            result.print(out, err);
+            printMetrics(result.getMetrics(), metricsFormat);
+            if(!result.isSuccessful())
+                System.exit(result.getExitStatus());
+            return;
+        }
+        BatchCompiler batchCompiler = new BatchCompiler(sophiaCompiler);
+        int exitStatus = batchCompiler.compile(paths, System.out);
+        printMetrics(batchCompiler.getMetrics(), metricsFormat);
+        System.exit(exitStatus);
+    }
+
+    private static void printMetrics(CompilationMetrics metrics, String format) {
+        if(metrics == null)
+            return;
+        System.err.print(format.equals("json") ? metrics.toJson() + System.lineSeparator() : metrics.toTable());
     }
 }
@@ -1,36 +1,149 @@
 package main;
 
+import main.CompilationMetrics.Step;
+import main.CompilationResult.Outcome;
+import main.CompilationResult.Phase;
 import main.ast.nodes.Program;
+import main.compileErrorException.DiagnosticSink;
+import main.symbolTable.CompilationContext;
+import main.visitor.nameAnalyzer.IdentifierResolver;
 import main.visitor.nameAnalyzer.NameAnalyzer;
 import main.visitor.typeChecker.TypeChecker;
 import main.visitor.utils.ErrorReporter;
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.*;
 import parsers.SophiaLexer;
-import parsers.SophiaParser;
 
 
+//never prints and never exits; callers decide what to do with the result
 public class SophiaCompiler {
-    public void compile(CharStream textStream) {
-        SophiaLexer sophiaLexer = new SophiaLexer(textStream);
-        CommonTokenStream tokenStream = new CommonTokenStream(sophiaLexer);
-        SophiaParser sophiaParser = new SophiaParser(tokenStream);
-        Program program = sophiaParser.sophia().sophiaProgram;
-        ErrorReporter errorReporter = new ErrorReporter();
-
-        NameAnalyzer nameAnalyzer = new NameAnalyzer(program);
+    private boolean collectMetrics = false;
+    private ProgramParser.Mode parseMode = ProgramParser.Mode.SLL_THEN_LL;
+    private AstCache astCache = null;
+
+    public boolean isCollectMetrics() {
+        return collectMetrics;
+    }
+
+    public void setCollectMetrics(boolean collectMetrics) {
+        this.collectMetrics = collectMetrics;
+    }
+
+    public ProgramParser.Mode getParseMode() {
+        return parseMode;
+    }
+
+    public void setParseMode(ProgramParser.Mode parseMode) {
+        this.parseMode = parseMode;
+    }
+
+    public AstCache getAstCache() {
+        return astCache;
+    }
+
+    //null, the default, lexes and parses every time
+    public void setAstCache(AstCache astCache) {
+        this.astCache = astCache;
+    }
+
+    //a phase that fails throws CompilationCrashedException, which keeps what was reported up to then
+    public CompilationResult compile(CharStream textStream) {
+        CompilationResult result = new CompilationResult();
+        DiagnosticSink sink = DiagnosticSink.open();
+        try {
+            return compile(textStream, sink, result);
+        } catch (RuntimeException e) {
+            throw new CompilationCrashedException(result, e);
+        } finally {
+            DiagnosticSink.close();
+        }
+    }
+
+    private CompilationResult compile(CharStream textStream, DiagnosticSink sink, CompilationResult result) {
+        CompilationContext context = new CompilationContext();
+        SyntaxErrorCollector syntaxErrorCollector = new SyntaxErrorCollector(result);
+        CompilationMetrics metrics = collectMetrics ? new CompilationMetrics() : null;
+        result.setMetrics(metrics);
+        if(metrics != null)
+            metrics.start();
+
+        long start = System.nanoTime();
+        String cacheKey = (astCache == null) ? null : astCache.key(textStream);
+        Program program = (cacheKey == null) ? null : astCache.load(cacheKey);
+        if(program != null) {
+            //a cached program had no syntax errors, so both phases pass without running
+            lap(metrics, Step.LEXING);
+            start = endPhase(result, Phase.LEXING, start, true);
+            lap(metrics, Step.PARSING);
+            start = endPhase(result, Phase.PARSING, start, true);
+        }
+        else {
+            SophiaLexer sophiaLexer = new SophiaLexer(textStream);
+            sophiaLexer.removeErrorListeners();
+            sophiaLexer.addErrorListener(syntaxErrorCollector);
+            CommonTokenStream tokenStream = new CommonTokenStream(sophiaLexer);
+            tokenStream.fill();
+            lap(metrics, Step.LEXING);
+            start = endPhase(result, Phase.LEXING, start, result.getSyntaxErrors().isEmpty());
+
+            program = ProgramParser.parse(tokenStream, parseMode, syntaxErrorCollector);
+            if(cacheKey != null && result.getSyntaxErrors().isEmpty())
+                astCache.store(cacheKey, program);
+            lap(metrics, Step.PARSING);
+            start = endPhase(result, Phase.PARSING, start, result.getSyntaxErrors().isEmpty());
+        }
+        result.setProgram(program);
+        ErrorReporter errorReporter = new ErrorReporter(result::addError);
+
+        NameAnalyzer nameAnalyzer = new NameAnalyzer(program, context);
         nameAnalyzer.analyze();
-        int numberOfErrors = program.accept(errorReporter);
+        lap(metrics, Step.NAME_ANALYSIS);
+        int numberOfErrors = errorReporter.report(sink);
+        lap(metrics, Step.NAME_ERROR_REPORT);
+        start = endPhase(result, Phase.NAME_ANALYSIS, start, numberOfErrors == 0);
         if(numberOfErrors > 0)
-            System.exit(1);
+            return result;
 
-        TypeChecker typeChecker = new TypeChecker(nameAnalyzer.getClassHierarchy());
+        new IdentifierResolver(context).resolve(program);
+        lap(metrics, Step.IDENTIFIER_RESOLUTION);
+        TypeChecker typeChecker = new TypeChecker(context);
         program.accept(typeChecker);
-        numberOfErrors = program.accept(errorReporter);
+        lap(metrics, Step.TYPE_CHECKING);
+        if(metrics != null)
+            metrics.addSubtypeCacheCounts(typeChecker.getSubtypeRelation().getHits(), typeChecker.getSubtypeRelation().getMisses());
+        numberOfErrors = errorReporter.report(sink);
+        lap(metrics, Step.TYPE_ERROR_REPORT);
+        endPhase(result, Phase.TYPE_CHECKING, start, numberOfErrors == 0);
         if(numberOfErrors > 0)
-            System.exit(1);
+            return result;
+
+        result.setSuccessful(true);
+        return result;
+    }
+
+    private static void lap(CompilationMetrics metrics, Step step) {
+        if(metrics != null)
+            metrics.lap(step);
+    }
+
+    private static long endPhase(CompilationResult result, Phase phase, long start, boolean passed) {
+        long end = System.nanoTime();
+        result.setPhaseNanos(phase, end - start);
+        result.setOutcome(phase, passed ? Outcome.PASSED : Outcome.FAILED);
+        return end;
+    }
+
+    //same format as antlr's ConsoleErrorListener
+    private static class SyntaxErrorCollector extends BaseErrorListener {
+        private final CompilationResult result;
 
-        System.out.println("Compilation successful");
+        SyntaxErrorCollector(CompilationResult result) {
+            this.result = result;
+        }
 
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                int charPositionInLine, String msg, RecognitionException e) {
+            result.addSyntaxError("line " + line + ":" + charPositionInLine + " " + msg);
+        }
     }
 }
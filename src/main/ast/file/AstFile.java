@@ -0,0 +1,61 @@
+package main.ast.file;
+
+import main.ast.nodes.Program;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+//the binary form of a program: a header, then every node in pre-order as its kind, its line and what the kind
+//carries, see NodeKind. names and constants are written on first use and referenced by number after that, and
+//so are types, so a type shared by several nodes is shared again when read back
+public class AstFile {
+    //bump whenever the layout or the nodes it is read into change
+    public static final int FORMAT_VERSION = 2;
+    static final int MAGIC = 0x53415354;
+
+    static final byte ABSENT = -1;
+    static final int NEW = -1;
+
+    static final byte NO_TYPE = 0;
+    static final byte INT = 1;
+    static final byte BOOL = 2;
+    static final byte STRING = 3;
+    static final byte NULL = 4;
+    static final byte CLASS = 5;
+    static final byte LIST = 6;
+    static final byte REPEATED_LIST = 7;
+    static final byte FPTR = 8;
+    static final byte SHARED = 9;
+
+    public static void write(Program program, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream, 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        try {
+            new AstWriter(out).write(program);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    //reads what write wrote, starting at the buffer's position; a buffer that holds anything else is an
+    //IOException, never a program that is wrong
+    public static Program read(ByteBuffer buffer) throws IOException {
+        try {
+            if(buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+                throw new IOException("Not an AST file");
+            Program program = new AstReader(buffer).read();
+            if(buffer.hasRemaining())
+                throw new IOException("Trailing bytes after the program");
+            return program;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated AST file", e);
+        }
+    }
+}
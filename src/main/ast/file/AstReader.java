@@ -0,0 +1,304 @@
+package main.ast.file;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.expression.values.primitive.StringValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.BreakStmt;
+import main.ast.nodes.statement.loop.ContinueStmt;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.ast.types.NoType;
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListNameType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.BoolType;
+import main.ast.types.single.ClassType;
+import main.ast.types.single.IntType;
+import main.ast.types.single.StringType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+//builds the nodes AstWriter wrote straight from the buffer. every child is checked to be what its slot holds
+//and every count and reference to be in range, so a damaged file fails here and not in a later phase
+class AstReader {
+    private static final BinaryOperator[] BINARY_OPERATORS = BinaryOperator.values();
+    private static final UnaryOperator[] UNARY_OPERATORS = UnaryOperator.values();
+
+    private final ByteBuffer buffer;
+    private final List<String> strings = new ArrayList<>();
+    private final List<Type> types = new ArrayList<>();
+
+    AstReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    Program read() throws IOException {
+        Program program = child(Program.class);
+        if(program == null)
+            throw new IOException("No program");
+        return program;
+    }
+
+    private <T extends Node> T child(Class<T> slot) throws IOException {
+        byte tag = buffer.get();
+        if(tag == AstFile.ABSENT)
+            return null;
+        NodeKind kind = NodeKind.of(tag);
+        if(kind == null)
+            throw new IOException("Unknown node kind " + tag);
+        int line = buffer.getInt();
+        Node node = create(kind);
+        if(!slot.isInstance(node))
+            throw new IOException("Expected " + slot.getSimpleName() + " but found " + kind);
+        node.setLine(line);
+        return slot.cast(node);
+    }
+
+    private <T extends Node> ArrayList<T> children(Class<T> slot) throws IOException {
+        int count = count();
+        ArrayList<T> nodes = new ArrayList<>(count);
+        for(int i = 0; i < count; i++)
+            nodes.add(child(slot));
+        return nodes;
+    }
+
+    //every entry takes at least a byte, so a count past the end of the buffer is damage
+    private int count() throws IOException {
+        int count = buffer.getInt();
+        if(count < 0 || count > buffer.remaining())
+            throw new IOException("Bad count " + count);
+        return count;
+    }
+
+    private String readString() throws IOException {
+        int id = buffer.getInt();
+        if(id != AstFile.NEW) {
+            if(id < 0 || id >= strings.size())
+                throw new IOException("Bad string reference " + id);
+            return strings.get(id);
+        }
+        byte[] bytes = new byte[count()];
+        buffer.get(bytes);
+        String string = new String(bytes, StandardCharsets.UTF_8);
+        strings.add(string);
+        return string;
+    }
+
+    private Identifier readIdentifier() throws IOException {
+        Identifier identifier = new Identifier(readString());
+        identifier.setLine(buffer.getInt());
+        return identifier;
+    }
+
+    private ListNameType readListNameType() throws IOException {
+        Identifier name = readIdentifier();
+        return new ListNameType(name, readType());
+    }
+
+    private Type readType() throws IOException {
+        byte tag = buffer.get();
+        if(tag == AstFile.ABSENT)
+            return null;
+        if(tag == AstFile.SHARED) {
+            int id = buffer.getInt();
+            if(id < 0 || id >= types.size())
+                throw new IOException("Bad type reference " + id);
+            return types.get(id);
+        }
+        Type type = createType(tag);
+        types.add(type);
+        return type;
+    }
+
+    private Type createType(byte tag) throws IOException {
+        switch(tag) {
+            case AstFile.INT:
+                return new IntType();
+            case AstFile.BOOL:
+                return new BoolType();
+            case AstFile.STRING:
+                return new StringType();
+            case AstFile.NULL:
+                return new NullType();
+            case AstFile.NO_TYPE:
+                return new NoType();
+            case AstFile.CLASS:
+                return new ClassType(readIdentifier());
+            case AstFile.REPEATED_LIST: {
+                int size = buffer.getInt();
+                if(size < 0)
+                    throw new IOException("Bad list size " + size);
+                return new ListType(size, readListNameType());
+            }
+            case AstFile.LIST: {
+                int size = count();
+                ArrayList<ListNameType> elementsTypes = new ArrayList<>(size);
+                for(int i = 0; i < size; i++)
+                    elementsTypes.add(readListNameType());
+                return new ListType(elementsTypes);
+            }
+            case AstFile.FPTR: {
+                int size = count();
+                ArrayList<Type> argumentsTypes = new ArrayList<>(size);
+                for(int i = 0; i < size; i++)
+                    argumentsTypes.add(readType());
+                return new FptrType(argumentsTypes, readType());
+            }
+            default:
+                throw new IOException("Unknown type tag " + tag);
+        }
+    }
+
+    private static <T> T operator(T[] operators, byte ordinal) throws IOException {
+        if(ordinal < 0 || ordinal >= operators.length)
+            throw new IOException("Unknown operator " + ordinal);
+        return operators[ordinal];
+    }
+
+    //children are read in the order they were written, so each one is made exactly once
+    private Node create(NodeKind kind) throws IOException {
+        switch(kind) {
+            case PROGRAM: {
+                Program program = new Program();
+                for(ClassDeclaration classDeclaration : children(ClassDeclaration.class))
+                    program.addClass(classDeclaration);
+                return program;
+            }
+            case CLASS: {
+                ClassDeclaration classDeclaration = new ClassDeclaration(child(Identifier.class));
+                classDeclaration.setParentClassName(child(Identifier.class));
+                for(FieldDeclaration fieldDeclaration : children(FieldDeclaration.class))
+                    classDeclaration.addField(fieldDeclaration);
+                classDeclaration.setConstructor(child(ConstructorDeclaration.class));
+                for(MethodDeclaration methodDeclaration : children(MethodDeclaration.class))
+                    classDeclaration.addMethod(methodDeclaration);
+                return classDeclaration;
+            }
+            case CONSTRUCTOR:
+            case METHOD: {
+                Type returnType = readType();
+                boolean doesReturn = buffer.get() == 1;
+                Identifier name = child(Identifier.class);
+                MethodDeclaration methodDeclaration = (kind == NodeKind.CONSTRUCTOR)
+                        ? new ConstructorDeclaration(name) : new MethodDeclaration(name, null);
+                methodDeclaration.setReturnType(returnType);
+                for(VarDeclaration arg : children(VarDeclaration.class))
+                    methodDeclaration.addArg(arg);
+                for(VarDeclaration localVar : children(VarDeclaration.class))
+                    methodDeclaration.addLocalVar(localVar);
+                for(Statement statement : children(Statement.class))
+                    methodDeclaration.addBodyStatement(statement);
+                methodDeclaration.setDoesReturn(doesReturn);
+                return methodDeclaration;
+            }
+            case FIELD:
+                return new FieldDeclaration(child(VarDeclaration.class));
+            case VAR: {
+                Type type = readType();
+                return new VarDeclaration(child(Identifier.class), type);
+            }
+            case ASSIGNMENT: {
+                Expression lValue = child(Expression.class);
+                return new AssignmentStmt(lValue, child(Expression.class));
+            }
+            case BLOCK: {
+                BlockStmt blockStmt = new BlockStmt();
+                for(Statement statement : children(Statement.class))
+                    blockStmt.addStatement(statement);
+                return blockStmt;
+            }
+            case CONDITIONAL: {
+                Expression condition = child(Expression.class);
+                ConditionalStmt conditionalStmt = new ConditionalStmt(condition, child(Statement.class));
+                conditionalStmt.setElseBody(child(Statement.class));
+                return conditionalStmt;
+            }
+            case METHOD_CALL_STMT:
+                return new MethodCallStmt(child(MethodCall.class));
+            case PRINT:
+                return new PrintStmt(child(Expression.class));
+            case RETURN:
+                return new ReturnStmt(child(Expression.class));
+            case BREAK:
+                return new BreakStmt();
+            case CONTINUE:
+                return new ContinueStmt();
+            case FOREACH: {
+                Identifier variable = child(Identifier.class);
+                ForeachStmt foreachStmt = new ForeachStmt(variable, child(Expression.class));
+                foreachStmt.setBody(child(Statement.class));
+                return foreachStmt;
+            }
+            case FOR: {
+                ForStmt forStmt = new ForStmt();
+                forStmt.setInitialize(child(AssignmentStmt.class));
+                forStmt.setCondition(child(Expression.class));
+                forStmt.setUpdate(child(AssignmentStmt.class));
+                forStmt.setBody(child(Statement.class));
+                return forStmt;
+            }
+            case BINARY: {
+                BinaryOperator operator = operator(BINARY_OPERATORS, buffer.get());
+                Expression first = child(Expression.class);
+                return new BinaryExpression(first, child(Expression.class), operator);
+            }
+            case UNARY: {
+                UnaryOperator operator = operator(UNARY_OPERATORS, buffer.get());
+                return new UnaryExpression(child(Expression.class), operator);
+            }
+            case MEMBER_ACCESS: {
+                Expression instance = child(Expression.class);
+                return new ObjectOrListMemberAccess(instance, child(Identifier.class));
+            }
+            case IDENTIFIER:
+                return new Identifier(readString());
+            case LIST_ACCESS: {
+                Expression instance = child(Expression.class);
+                return new ListAccessByIndex(instance, child(Expression.class));
+            }
+            case METHOD_CALL: {
+                Expression instance = child(Expression.class);
+                return new MethodCall(instance, children(Expression.class));
+            }
+            case NEW_CLASS_INSTANCE: {
+                Type classType = readType();
+                if(!(classType instanceof ClassType))
+                    throw new IOException("Expected a class type but found " + classType);
+                return new NewClassInstance((ClassType) classType, children(Expression.class));
+            }
+            case THIS:
+                return new ThisClass();
+            case LIST_VALUE:
+                return new ListValue(children(Expression.class));
+            case NULL_VALUE:
+                return new NullValue();
+            case INT_VALUE:
+                return new IntValue(buffer.getInt());
+            case BOOL_VALUE:
+                return new BoolValue(buffer.get() == 1);
+            case STRING_VALUE:
+                return new StringValue(readString());
+            default:
+                throw new IOException("Unknown node kind " + kind);
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package main.ast.file;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.expression.values.primitive.StringValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.BreakStmt;
+import main.ast.nodes.statement.loop.ContinueStmt;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.ast.types.NoType;
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListNameType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.BoolType;
+import main.ast.types.single.ClassType;
+import main.ast.types.single.IntType;
+import main.ast.types.single.StringType;
+import main.visitor.Visitor;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+//writes a program for AstReader. visits cannot throw IOException, so it travels up as UncheckedIOException
+class AstWriter extends Visitor<Void> {
+    private final DataOutputStream out;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<Type, Integer> types = new IdentityHashMap<>();
+
+    AstWriter(DataOutputStream out) {
+        this.out = out;
+    }
+
+    void write(Program program) {
+        child(program);
+    }
+
+    private void child(Node node) {
+        if(node == null)
+            writeByte(AstFile.ABSENT);
+        else
+            node.accept(this);
+    }
+
+    private void children(List<? extends Node> nodes) {
+        writeInt(nodes.size());
+        for(Node node : nodes)
+            child(node);
+    }
+
+    private void start(NodeKind kind, Node node) {
+        writeByte(kind.ordinal());
+        writeInt(node.getLine());
+    }
+
+    private void writeByte(int value) {
+        try {
+            out.writeByte(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeInt(int value) {
+        try {
+            out.writeInt(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeString(String string) {
+        Integer id = strings.get(string);
+        if(id != null) {
+            writeInt(id);
+            return;
+        }
+        strings.put(string, strings.size());
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeInt(AstFile.NEW);
+        writeInt(bytes.length);
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeIdentifier(Identifier identifier) {
+        writeString(identifier.getName());
+        writeInt(identifier.getLine());
+    }
+
+    private void writeListNameType(ListNameType listNameType) {
+        writeIdentifier(listNameType.getName());
+        writeType(listNameType.getType());
+    }
+
+    //a type is numbered once it is written whole, which is when the reader has it built
+    private void writeType(Type type) {
+        if(type == null) {
+            writeByte(AstFile.ABSENT);
+            return;
+        }
+        Integer id = types.get(type);
+        if(id != null) {
+            writeByte(AstFile.SHARED);
+            writeInt(id);
+            return;
+        }
+        if(type instanceof IntType)
+            writeByte(AstFile.INT);
+        else if(type instanceof BoolType)
+            writeByte(AstFile.BOOL);
+        else if(type instanceof StringType)
+            writeByte(AstFile.STRING);
+        else if(type instanceof NullType)
+            writeByte(AstFile.NULL);
+        else if(type instanceof NoType)
+            writeByte(AstFile.NO_TYPE);
+        else if(type instanceof ClassType) {
+            writeByte(AstFile.CLASS);
+            writeIdentifier(((ClassType) type).getClassName());
+        }
+        else if(type instanceof ListType && ((ListType) type).isRepeated()) {
+            ListType listType = (ListType) type;
+            writeByte(AstFile.REPEATED_LIST);
+            writeInt(listType.getSize());
+            writeListNameType(listType.getRepeatedElement());
+        }
+        else if(type instanceof ListType) {
+            ListType listType = (ListType) type;
+            writeByte(AstFile.LIST);
+            writeInt(listType.getSize());
+            for(int i = 0; i < listType.getSize(); i++)
+                writeListNameType(listType.getElementType(i));
+        }
+        else if(type instanceof FptrType) {
+            FptrType fptrType = (FptrType) type;
+            writeByte(AstFile.FPTR);
+            writeInt(fptrType.getArgumentsTypes().size());
+            for(Type argumentType : fptrType.getArgumentsTypes())
+                writeType(argumentType);
+            writeType(fptrType.getReturnType());
+        }
+        else
+            throw new UncheckedIOException(new IOException("Cannot write " + type));
+        types.put(type, types.size());
+    }
+
+    @Override
+    public Void visit(Program program) {
+        start(NodeKind.PROGRAM, program);
+        children(program.getClasses());
+        return null;
+    }
+
+    @Override
+    public Void visit(ClassDeclaration classDeclaration) {
+        start(NodeKind.CLASS, classDeclaration);
+        child(classDeclaration.getClassName());
+        child(classDeclaration.getParentClassName());
+        children(classDeclaration.getFields());
+        child(classDeclaration.getConstructor());
+        children(classDeclaration.getMethods());
+        return null;
+    }
+
+    @Override
+    public Void visit(ConstructorDeclaration constructorDeclaration) {
+        return visitMethod(NodeKind.CONSTRUCTOR, constructorDeclaration);
+    }
+
+    @Override
+    public Void visit(MethodDeclaration methodDeclaration) {
+        return visitMethod(NodeKind.METHOD, methodDeclaration);
+    }
+
+    private Void visitMethod(NodeKind kind, MethodDeclaration methodDeclaration) {
+        start(kind, methodDeclaration);
+        writeType(methodDeclaration.getReturnType());
+        writeByte(methodDeclaration.getDoesReturn() ? 1 : 0);
+        child(methodDeclaration.getMethodName());
+        children(methodDeclaration.getArgs());
+        children(methodDeclaration.getLocalVars());
+        children(methodDeclaration.getBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(FieldDeclaration fieldDeclaration) {
+        start(NodeKind.FIELD, fieldDeclaration);
+        child(fieldDeclaration.getVarDeclaration());
+        return null;
+    }
+
+    @Override
+    public Void visit(VarDeclaration varDeclaration) {
+        start(NodeKind.VAR, varDeclaration);
+        writeType(varDeclaration.getType());
+        child(varDeclaration.getVarName());
+        return null;
+    }
+
+    @Override
+    public Void visit(AssignmentStmt assignmentStmt) {
+        start(NodeKind.ASSIGNMENT, assignmentStmt);
+        child(assignmentStmt.getlValue());
+        child(assignmentStmt.getrValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(BlockStmt blockStmt) {
+        start(NodeKind.BLOCK, blockStmt);
+        children(blockStmt.getStatements());
+        return null;
+    }
+
+    @Override
+    public Void visit(ConditionalStmt conditionalStmt) {
+        start(NodeKind.CONDITIONAL, conditionalStmt);
+        child(conditionalStmt.getCondition());
+        child(conditionalStmt.getThenBody());
+        child(conditionalStmt.getElseBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCallStmt methodCallStmt) {
+        start(NodeKind.METHOD_CALL_STMT, methodCallStmt);
+        child(methodCallStmt.getMethodCall());
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt print) {
+        start(NodeKind.PRINT, print);
+        child(print.getArg());
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        start(NodeKind.RETURN, returnStmt);
+        child(returnStmt.getReturnedExpr());
+        return null;
+    }
+
+    @Override
+    public Void visit(BreakStmt breakStmt) {
+        start(NodeKind.BREAK, breakStmt);
+        return null;
+    }
+
+    @Override
+    public Void visit(ContinueStmt continueStmt) {
+        start(NodeKind.CONTINUE, continueStmt);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForeachStmt foreachStmt) {
+        start(NodeKind.FOREACH, foreachStmt);
+        child(foreachStmt.getVariable());
+        child(foreachStmt.getList());
+        child(foreachStmt.getBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(ForStmt forStmt) {
+        start(NodeKind.FOR, forStmt);
+        child(forStmt.getInitialize());
+        child(forStmt.getCondition());
+        child(forStmt.getUpdate());
+        child(forStmt.getBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        start(NodeKind.BINARY, binaryExpression);
+        writeByte(binaryExpression.getBinaryOperator().ordinal());
+        child(binaryExpression.getFirstOperand());
+        child(binaryExpression.getSecondOperand());
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        start(NodeKind.UNARY, unaryExpression);
+        writeByte(unaryExpression.getOperator().ordinal());
+        child(unaryExpression.getOperand());
+        return null;
+    }
+
+    @Override
+    public Void visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        start(NodeKind.MEMBER_ACCESS, objectOrListMemberAccess);
+        child(objectOrListMemberAccess.getInstance());
+        child(objectOrListMemberAccess.getMemberName());
+        return null;
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        start(NodeKind.IDENTIFIER, identifier);
+        writeString(identifier.getName());
+        return null;
+    }
+
+    @Override
+    public Void visit(ListAccessByIndex listAccessByIndex) {
+        start(NodeKind.LIST_ACCESS, listAccessByIndex);
+        child(listAccessByIndex.getInstance());
+        child(listAccessByIndex.getIndex());
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCall methodCall) {
+        start(NodeKind.METHOD_CALL, methodCall);
+        child(methodCall.getInstance());
+        children(methodCall.getArgs());
+        return null;
+    }
+
+    @Override
+    public Void visit(NewClassInstance newClassInstance) {
+        start(NodeKind.NEW_CLASS_INSTANCE, newClassInstance);
+        writeType(newClassInstance.getClassType());
+        children(newClassInstance.getArgs());
+        return null;
+    }
+
+    @Override
+    public Void visit(ThisClass thisClass) {
+        start(NodeKind.THIS, thisClass);
+        return null;
+    }
+
+    @Override
+    public Void visit(ListValue listValue) {
+        start(NodeKind.LIST_VALUE, listValue);
+        children(listValue.getElements());
+        return null;
+    }
+
+    @Override
+    public Void visit(NullValue nullValue) {
+        start(NodeKind.NULL_VALUE, nullValue);
+        return null;
+    }
+
+    @Override
+    public Void visit(IntValue intValue) {
+        start(NodeKind.INT_VALUE, intValue);
+        writeInt(intValue.getConstant());
+        return null;
+    }
+
+    @Override
+    public Void visit(BoolValue boolValue) {
+        start(NodeKind.BOOL_VALUE, boolValue);
+        writeByte(boolValue.getConstant() ? 1 : 0);
+        return null;
+    }
+
+    @Override
+    public Void visit(StringValue stringValue) {
+        start(NodeKind.STRING_VALUE, stringValue);
+        writeString(stringValue.getConstant());
+        return null;
+    }
+}
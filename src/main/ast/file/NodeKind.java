@@ -0,0 +1,42 @@
+package main.ast.file;
+
+//one kind per concrete node class, written as a byte before the node. what follows each kind is listed next
+//to it; children are nodes written in the order of their report paths, see Node
+enum NodeKind {
+    PROGRAM,                //classes
+    CLASS,                  //name, parent, fields, constructor, methods
+    CONSTRUCTOR,            //like METHOD
+    METHOD,                 //return type, does return, name, args, local vars, body
+    FIELD,                  //var declaration
+    VAR,                    //type, name
+    ASSIGNMENT,             //lvalue, rvalue
+    BLOCK,                  //statements
+    CONDITIONAL,            //condition, then, else
+    METHOD_CALL_STMT,       //method call
+    PRINT,                  //argument
+    RETURN,                 //returned expression
+    BREAK,
+    CONTINUE,
+    FOREACH,                //variable, list, body
+    FOR,                    //initialize, condition, update, body
+    BINARY,                 //operator, first, second
+    UNARY,                  //operator, operand
+    MEMBER_ACCESS,          //instance, member name
+    IDENTIFIER,             //name
+    LIST_ACCESS,            //instance, index
+    METHOD_CALL,            //instance, args
+    NEW_CLASS_INSTANCE,     //class type, args
+    THIS,
+    LIST_VALUE,             //elements
+    NULL_VALUE,
+    INT_VALUE,              //constant
+    BOOL_VALUE,             //constant
+    STRING_VALUE;           //constant
+
+    private static final NodeKind[] KINDS = values();
+
+    //null for a byte that is no kind
+    static NodeKind of(int ordinal) {
+        return (ordinal >= 0 && ordinal < KINDS.length) ? KINDS[ordinal] : null;
+    }
+}
@@ -1,29 +1,93 @@
 package main.ast.nodes;
 
 import main.compileErrorException.CompileErrorException;
+import main.compileErrorException.DiagnosticSink;
 import main.visitor.IVisitor;
 
 import java.util.ArrayList;
 
 public abstract class Node {
     private int line;
-    private ArrayList<CompileErrorException> errors = new ArrayList<>();
+    //set when the node is given to a parent. the slot is the group the child is in, numbered in the order a
+    //pre-order walk visits the parent's children, and above it the child's index in that group
+    private Node parent;
+    private long slot;
+    //most nodes never get an error, so the list is only made by the first addError
+    private ArrayList<CompileErrorException> errors;
     public static boolean isCatchErrorsActive = true;
 
     public ArrayList<CompileErrorException> flushErrors() {
         ArrayList<CompileErrorException> errors = this.errors;
-        this.errors = new ArrayList<>();
-        return errors;
+        this.errors = null;
+        return (errors == null) ? new ArrayList<>() : errors;
     }
 
     public void addError(CompileErrorException e) {
         if(Node.isCatchErrorsActive) {
+            if(this.errors == null)
+                this.errors = new ArrayList<>();
             this.errors.add(e);
+            DiagnosticSink sink = DiagnosticSink.getCurrent();
+            if(sink != null)
+                sink.record(this, e);
         }
     }
 
     public boolean hasError() {
-        return this.errors.size() != 0;
+        return this.errors != null && this.errors.size() != 0;
+    }
+
+    public int getErrorCount() {
+        return (this.errors == null) ? 0 : this.errors.size();
+    }
+
+    //the slots from the program down to this node, null when the node is not part of a program. comparing two
+    //paths slot by slot, a path before the longer paths it starts, is comparing where a pre-order walk reaches
+    //the nodes
+    public long[] getReportPath() {
+        int depth = 0;
+        Node root = this;
+        for(; root.parent != null; root = root.parent)
+            depth++;
+        if(!(root instanceof Program))
+            return null;
+        long[] path = new long[depth];
+        for(Node node = this; node.parent != null; node = node.parent)
+            path[--depth] = node.slot;
+        return path;
+    }
+
+    //the setters of a child go through here, so the replaced child stops being part of the program
+    protected <N extends Node> N replaceChild(N replaced, N child, int group) {
+        release(replaced);
+        adopt(child, group, 0);
+        return child;
+    }
+
+    protected <N extends Node> ArrayList<N> replaceChildren(ArrayList<N> replaced, ArrayList<N> children, int group) {
+        if(replaced != null)
+            for(N node : replaced)
+                release(node);
+        for(int i = 0; i < children.size(); i++)
+            adopt(children.get(i), group, i);
+        return children;
+    }
+
+    protected <N extends Node> void addChild(ArrayList<N> children, N child, int group) {
+        children.add(child);
+        adopt(child, group, children.size() - 1);
+    }
+
+    private void release(Node child) {
+        if(child != null && child.parent == this)
+            child.parent = null;
+    }
+
+    private void adopt(Node child, int group, int index) {
+        if(child != null) {
+            child.parent = this;
+            child.slot = ((long) group << 32) | index;
+        }
     }
 
     public int getLine() {
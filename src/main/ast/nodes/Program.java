@@ -13,7 +13,7 @@ public class Program extends Node {
     }
 
     public Program(ArrayList<ClassDeclaration> classes) {
-        this.classes = classes;
+        this.classes = replaceChildren(this.classes, classes, 0);
     }
 
     public ArrayList<ClassDeclaration> getClasses() {
@@ -21,11 +21,11 @@ public class Program extends Node {
     }
 
     public void setClasses(ArrayList<ClassDeclaration> classes) {
-        this.classes = classes;
+        this.classes = replaceChildren(this.classes, classes, 0);
     }
 
     public void addClass(ClassDeclaration classDeclaration) {
-        classes.add(classDeclaration);
+        addChild(this.classes, classDeclaration, 0);
     }
 
     @Override
@@ -18,7 +18,7 @@ public class ClassDeclaration extends Declaration {
     private ArrayList<MethodDeclaration> methods = new ArrayList<>();
 
     public ClassDeclaration(Identifier className) {
-        this.className = className;
+        this.className = replaceChild(this.className, className, 0);
     }
 
     public Identifier getClassName() {
@@ -26,7 +26,7 @@ public class ClassDeclaration extends Declaration {
     }
 
     public void setClassName(Identifier className) {
-        this.className = className;
+        this.className = replaceChild(this.className, className, 0);
     }
 
     public Identifier getParentClassName() {
@@ -34,7 +34,7 @@ public class ClassDeclaration extends Declaration {
     }
 
     public void setParentClassName(Identifier parentClassName) {
-        this.parentClassName = parentClassName;
+        this.parentClassName = replaceChild(this.parentClassName, parentClassName, 1);
     }
 
     public ConstructorDeclaration getConstructor() {
@@ -42,7 +42,7 @@ public class ClassDeclaration extends Declaration {
     }
 
     public void setConstructor(ConstructorDeclaration constructor) {
-        this.constructor = constructor;
+        this.constructor = replaceChild(this.constructor, constructor, 3);
     }
 
     public ArrayList<MethodDeclaration> getMethods() {
@@ -50,7 +50,7 @@ public class ClassDeclaration extends Declaration {
     }
 
     public void setMethods(ArrayList<MethodDeclaration> methods) {
-        this.methods = methods;
+        this.methods = replaceChildren(this.methods, methods, 4);
     }
 
     public ArrayList<FieldDeclaration> getFields() {
@@ -58,15 +58,15 @@ public class ClassDeclaration extends Declaration {
     }
 
     public void setFields(ArrayList<FieldDeclaration> fields) {
-        this.fields = fields;
+        this.fields = replaceChildren(this.fields, fields, 2);
     }
 
     public void addMethod(MethodDeclaration methodDeclaration) {
-        this.methods.add(methodDeclaration);
+        addChild(this.methods, methodDeclaration, 4);
     }
 
     public void addField(FieldDeclaration fieldDeclaration) {
-        this.fields.add(fieldDeclaration);
+        addChild(this.fields, fieldDeclaration, 2);
     }
 
     @Override
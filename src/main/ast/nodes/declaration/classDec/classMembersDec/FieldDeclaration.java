@@ -9,7 +9,7 @@ public class FieldDeclaration extends Declaration {
     VarDeclaration varDeclaration;
 
     public FieldDeclaration(VarDeclaration varDeclaration) {
-        this.varDeclaration = varDeclaration;
+        this.varDeclaration = replaceChild(this.varDeclaration, varDeclaration, 0);
     }
 
     public VarDeclaration getVarDeclaration() {
@@ -17,7 +17,7 @@ public class FieldDeclaration extends Declaration {
     }
 
     public void setVarDeclaration(VarDeclaration varDeclaration) {
-        this.varDeclaration = varDeclaration;
+        this.varDeclaration = replaceChild(this.varDeclaration, varDeclaration, 0);
     }
 
     @Override
@@ -21,7 +21,7 @@ public class MethodDeclaration extends Declaration {
 
     //returnType NullType on when it is Void
     public MethodDeclaration(Identifier methodName, Type returnType) {
-        this.methodName = methodName;
+        this.methodName = replaceChild(this.methodName, methodName, 0);
         this.returnType = returnType;
     }
 
@@ -30,7 +30,7 @@ public class MethodDeclaration extends Declaration {
     }
 
     public void setMethodName(Identifier methodName) {
-        this.methodName = methodName;
+        this.methodName = replaceChild(this.methodName, methodName, 0);
     }
 
     public Type getReturnType() {
@@ -46,7 +46,7 @@ public class MethodDeclaration extends Declaration {
     }
 
     public void setArgs(ArrayList<VarDeclaration> args) {
-        this.args = args;
+        this.args = replaceChildren(this.args, args, 1);
     }
 
     public ArrayList<VarDeclaration> getLocalVars() {
@@ -54,7 +54,7 @@ public class MethodDeclaration extends Declaration {
     }
 
     public void setLocalVars(ArrayList<VarDeclaration> localVars) {
-        this.localVars = localVars;
+        this.localVars = replaceChildren(this.localVars, localVars, 2);
     }
 
     public ArrayList<Statement> getBody() {
@@ -62,19 +62,19 @@ public class MethodDeclaration extends Declaration {
     }
 
     public void setBody(ArrayList<Statement> body) {
-        this.body = body;
+        this.body = replaceChildren(this.body, body, 3);
     }
 
     public void addArg(VarDeclaration varDeclaration) {
-        this.args.add(varDeclaration);
+        addChild(this.args, varDeclaration, 1);
     }
 
     public void addLocalVar(VarDeclaration varDeclaration) {
-        this.localVars.add(varDeclaration);
+        addChild(this.localVars, varDeclaration, 2);
     }
 
     public void addBodyStatement(Statement statement) {
-        this.body.add(statement);
+        addChild(this.body, statement, 3);
     }
 
     public boolean getDoesReturn() {
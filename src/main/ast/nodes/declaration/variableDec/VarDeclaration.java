@@ -11,7 +11,7 @@ public class VarDeclaration extends Declaration {
     private Type type;
 
     public VarDeclaration(Identifier varName, Type type) {
-        this.varName = varName;
+        this.varName = replaceChild(this.varName, varName, 0);
         this.type = type;
     }
 
@@ -20,7 +20,7 @@ public class VarDeclaration extends Declaration {
     }
 
     public void setVarName(Identifier varName) {
-        this.varName = varName;
+        this.varName = replaceChild(this.varName, varName, 0);
     }
 
     public Type getType() {
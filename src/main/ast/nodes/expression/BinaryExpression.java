@@ -10,8 +10,8 @@ public class BinaryExpression extends Expression {
     private BinaryOperator binaryOperator;
 
     public BinaryExpression(Expression firstOperand, Expression secondOperand, BinaryOperator binaryOperator) {
-        this.firstOperand = firstOperand;
-        this.secondOperand = secondOperand;
+        this.firstOperand = replaceChild(this.firstOperand, firstOperand, 0);
+        this.secondOperand = replaceChild(this.secondOperand, secondOperand, 1);
         this.binaryOperator = binaryOperator;
     }
 
@@ -20,7 +20,7 @@ public class BinaryExpression extends Expression {
     }
 
     public void setFirstOperand(Expression firstOperand) {
-        this.firstOperand = firstOperand;
+        this.firstOperand = replaceChild(this.firstOperand, firstOperand, 0);
     }
 
     public Expression getSecondOperand() {
@@ -28,7 +28,7 @@ public class BinaryExpression extends Expression {
     }
 
     public void setSecondOperand(Expression secondOperand) {
-        this.secondOperand = secondOperand;
+        this.secondOperand = replaceChild(this.secondOperand, secondOperand, 1);
     }
 
     public BinaryOperator getBinaryOperator() {
@@ -1,10 +1,13 @@
 package main.ast.nodes.expression;
 
+import main.symbolTable.items.SymbolTableItem;
 import main.visitor.IVisitor;
 
 //line -> IDENTIFIER
 public class Identifier extends Expression{
     private String name;
+    private SymbolTableItem symbol;
+    private boolean resolved = false;
 
     public Identifier(String name) {
         this.name = name;
@@ -18,6 +21,20 @@ public class Identifier extends Expression{
         this.name = name;
     }
 
+    //set by IdentifierResolver; null when the name did not resolve
+    public SymbolTableItem getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(SymbolTableItem symbol) {
+        this.symbol = symbol;
+        this.resolved = true;
+    }
+
+    public boolean isResolved() {
+        return resolved;
+    }
+
     @Override
     public String toString() {
         return "Identifier_" + this.name;
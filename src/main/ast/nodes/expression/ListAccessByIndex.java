@@ -8,8 +8,8 @@ public class ListAccessByIndex extends Expression {
     private Expression index;
 
     public ListAccessByIndex(Expression instance, Expression index) {
-        this.instance = instance;
-        this.index = index;
+        this.instance = replaceChild(this.instance, instance, 0);
+        this.index = replaceChild(this.index, index, 1);
     }
 
     public Expression getInstance() {
@@ -17,7 +17,7 @@ public class ListAccessByIndex extends Expression {
     }
 
     public void setInstance(Expression instance) {
-        this.instance = instance;
+        this.instance = replaceChild(this.instance, instance, 0);
     }
 
     public Expression getIndex() {
@@ -25,7 +25,7 @@ public class ListAccessByIndex extends Expression {
     }
 
     public void setIndex(Expression index) {
-        this.index = index;
+        this.index = replaceChild(this.index, index, 1);
     }
 
     @Override
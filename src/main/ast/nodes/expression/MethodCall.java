@@ -10,12 +10,12 @@ public class MethodCall extends Expression {
     private ArrayList<Expression> args = new ArrayList<>();
 
     public MethodCall(Expression instance) {
-        this.instance = instance;
+        this.instance = replaceChild(this.instance, instance, 0);
     }
 
     public MethodCall(Expression instance, ArrayList<Expression> args) {
-        this.instance = instance;
-        this.args = args;
+        this.instance = replaceChild(this.instance, instance, 0);
+        this.args = replaceChildren(this.args, args, 1);
     }
 
     public Expression getInstance() {
@@ -23,7 +23,7 @@ public class MethodCall extends Expression {
     }
 
     public void setInstance(Expression instance) {
-        this.instance = instance;
+        this.instance = replaceChild(this.instance, instance, 0);
     }
 
     public ArrayList<Expression> getArgs() {
@@ -31,11 +31,11 @@ public class MethodCall extends Expression {
     }
 
     public void setArgs(ArrayList<Expression> args) {
-        this.args = args;
+        this.args = replaceChildren(this.args, args, 1);
     }
 
     public void addArg(Expression arg) {
-        this.args.add(arg);
+        addChild(this.args, arg, 1);
     }
 
     @Override
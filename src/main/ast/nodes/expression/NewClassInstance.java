@@ -16,7 +16,7 @@ public class NewClassInstance extends Expression{
 
     public NewClassInstance(ClassType classType, ArrayList<Expression> args) {
         this.classType = classType;
-        this.args = args;
+        this.args = replaceChildren(this.args, args, 0);
     }
 
     public ClassType getClassType() {
@@ -32,11 +32,11 @@ public class NewClassInstance extends Expression{
     }
 
     public void setArgs(ArrayList<Expression> args) {
-        this.args = args;
+        this.args = replaceChildren(this.args, args, 0);
     }
 
     public void addArg(Expression arg) {
-        this.args.add(arg);
+        addChild(this.args, arg, 0);
     }
 
     @Override
@@ -8,8 +8,8 @@ public class ObjectOrListMemberAccess extends Expression{
     private Identifier memberName;
 
     public ObjectOrListMemberAccess(Expression instance, Identifier memberName) {
-        this.instance = instance;
-        this.memberName = memberName;
+        this.instance = replaceChild(this.instance, instance, 0);
+        this.memberName = replaceChild(this.memberName, memberName, 1);
     }
 
     public Expression getInstance() {
@@ -17,7 +17,7 @@ public class ObjectOrListMemberAccess extends Expression{
     }
 
     public void setInstance(Expression instance) {
-        this.instance = instance;
+        this.instance = replaceChild(this.instance, instance, 0);
     }
 
     public Identifier getMemberName() {
@@ -25,7 +25,7 @@ public class ObjectOrListMemberAccess extends Expression{
     }
 
     public void setMemberName(Identifier memberName) {
-        this.memberName = memberName;
+        this.memberName = replaceChild(this.memberName, memberName, 1);
     }
 
     @Override
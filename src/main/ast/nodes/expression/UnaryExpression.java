@@ -9,7 +9,7 @@ public class UnaryExpression extends Expression{
     private UnaryOperator operator;
 
     public UnaryExpression(Expression operand, UnaryOperator operator) {
-        this.operand = operand;
+        this.operand = replaceChild(this.operand, operand, 0);
         this.operator = operator;
     }
 
@@ -18,7 +18,7 @@ public class UnaryExpression extends Expression{
     }
 
     public void setOperand(Expression operand) {
-        this.operand = operand;
+        this.operand = replaceChild(this.operand, operand, 0);
     }
 
     public UnaryOperator getOperator() {
@@ -13,7 +13,7 @@ public class ListValue extends Value{
     }
 
     public ListValue(ArrayList<Expression> elements) {
-        this.elements = elements;
+        this.elements = replaceChildren(this.elements, elements, 0);
     }
 
     public ArrayList<Expression> getElements() {
@@ -21,11 +21,11 @@ public class ListValue extends Value{
     }
 
     public void setElements(ArrayList<Expression> elements) {
-        this.elements = elements;
+        this.elements = replaceChildren(this.elements, elements, 0);
     }
 
     public void addElement(Expression expression) {
-        this.elements.add(expression);
+        addChild(this.elements, expression, 0);
     }
 
     @Override
@@ -9,8 +9,8 @@ public class AssignmentStmt extends Statement{
     private Expression rValue;
 
     public AssignmentStmt(Expression lValue, Expression rValue) {
-        this.lValue = lValue;
-        this.rValue = rValue;
+        this.lValue = replaceChild(this.lValue, lValue, 0);
+        this.rValue = replaceChild(this.rValue, rValue, 1);
     }
 
     public Expression getlValue() {
@@ -18,7 +18,7 @@ public class AssignmentStmt extends Statement{
     }
 
     public void setlValue(Expression lValue) {
-        this.lValue = lValue;
+        this.lValue = replaceChild(this.lValue, lValue, 0);
     }
 
     public Expression getrValue() {
@@ -26,7 +26,7 @@ public class AssignmentStmt extends Statement{
     }
 
     public void setrValue(Expression rValue) {
-        this.rValue = rValue;
+        this.rValue = replaceChild(this.rValue, rValue, 1);
     }
 
     @Override
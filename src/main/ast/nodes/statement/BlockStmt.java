@@ -12,7 +12,7 @@ public class BlockStmt extends Statement{
     }
 
     public BlockStmt(ArrayList<Statement> statements) {
-        this.statements = statements;
+        this.statements = replaceChildren(this.statements, statements, 0);
     }
 
     public ArrayList<Statement> getStatements() {
@@ -20,11 +20,11 @@ public class BlockStmt extends Statement{
     }
 
     public void setStatements(ArrayList<Statement> statements) {
-        this.statements = statements;
+        this.statements = replaceChildren(this.statements, statements, 0);
     }
 
     public void addStatement(Statement statement) {
-        this.statements.add(statement);
+        addChild(this.statements, statement, 0);
     }
 
     @Override
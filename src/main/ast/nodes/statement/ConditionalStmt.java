@@ -10,8 +10,8 @@ public class ConditionalStmt extends Statement{
     private Statement elseBody;
 
     public ConditionalStmt(Expression expression, Statement thenBody) {
-        this.condition = expression;
-        this.thenBody = thenBody;
+        this.condition = replaceChild(this.condition, expression, 0);
+        this.thenBody = replaceChild(this.thenBody, thenBody, 1);
     }
 
     public Expression getCondition() {
@@ -19,7 +19,7 @@ public class ConditionalStmt extends Statement{
     }
 
     public void setCondition(Expression condition) {
-        this.condition = condition;
+        this.condition = replaceChild(this.condition, condition, 0);
     }
 
     public Statement getThenBody() {
@@ -27,7 +27,7 @@ public class ConditionalStmt extends Statement{
     }
 
     public void setThenBody(Statement thenBody) {
-        this.thenBody = thenBody;
+        this.thenBody = replaceChild(this.thenBody, thenBody, 1);
     }
 
     public Statement getElseBody() {
@@ -35,7 +35,7 @@ public class ConditionalStmt extends Statement{
     }
 
     public void setElseBody(Statement elseBody) {
-        this.elseBody = elseBody;
+        this.elseBody = replaceChild(this.elseBody, elseBody, 2);
     }
 
     @Override
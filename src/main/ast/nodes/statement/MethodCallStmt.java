@@ -8,7 +8,7 @@ public class MethodCallStmt extends Statement{
     private MethodCall methodCall;
 
     public MethodCallStmt(MethodCall methodCall) {
-        this.methodCall = methodCall;
+        this.methodCall = replaceChild(this.methodCall, methodCall, 0);
     }
 
     public MethodCall getMethodCall() {
@@ -16,7 +16,7 @@ public class MethodCallStmt extends Statement{
     }
 
     public void setMethodCall(MethodCall methodCall) {
-        this.methodCall = methodCall;
+        this.methodCall = replaceChild(this.methodCall, methodCall, 0);
     }
 
     @Override
@@ -8,7 +8,7 @@ public class PrintStmt extends Statement{
     private Expression arg;
 
     public PrintStmt(Expression arg) {
-        this.arg = arg;
+        this.arg = replaceChild(this.arg, arg, 0);
     }
 
     public Expression getArg() {
@@ -16,7 +16,7 @@ public class PrintStmt extends Statement{
     }
 
     public void setArg(Expression arg) {
-        this.arg = arg;
+        this.arg = replaceChild(this.arg, arg, 0);
     }
 
     @Override
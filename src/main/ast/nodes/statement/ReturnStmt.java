@@ -6,13 +6,14 @@ import main.visitor.IVisitor;
 
 //line -> RETURN
 public class ReturnStmt extends Statement{
-    private Expression returnedExpr = new NullValue();
+    private Expression returnedExpr;
 
     public ReturnStmt() {
+        this(new NullValue());
     }
 
     public ReturnStmt(Expression returnedExpr) {
-        this.returnedExpr = returnedExpr;
+        this.returnedExpr = replaceChild(this.returnedExpr, returnedExpr, 0);
     }
 
     public Expression getReturnedExpr() {
@@ -20,7 +21,7 @@ public class ReturnStmt extends Statement{
     }
 
     public void setReturnedExpr(Expression returnedExpr) {
-        this.returnedExpr = returnedExpr;
+        this.returnedExpr = replaceChild(this.returnedExpr, returnedExpr, 0);
     }
 
     @Override
@@ -20,7 +20,7 @@ public class ForStmt extends Statement {
     }
 
     public void setInitialize(AssignmentStmt initialize) {
-        this.initialize = initialize;
+        this.initialize = replaceChild(this.initialize, initialize, 0);
     }
 
     public Expression getCondition() {
@@ -28,7 +28,7 @@ public class ForStmt extends Statement {
     }
 
     public void setCondition(Expression condition) {
-        this.condition = condition;
+        this.condition = replaceChild(this.condition, condition, 1);
     }
 
     public AssignmentStmt getUpdate() {
@@ -36,7 +36,7 @@ public class ForStmt extends Statement {
     }
 
     public void setUpdate(AssignmentStmt update) {
-        this.update = update;
+        this.update = replaceChild(this.update, update, 2);
     }
 
     public Statement getBody() {
@@ -44,7 +44,7 @@ public class ForStmt extends Statement {
     }
 
     public void setBody(Statement body) {
-        this.body = body;
+        this.body = replaceChild(this.body, body, 3);
     }
 
     @Override
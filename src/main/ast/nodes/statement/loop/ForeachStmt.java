@@ -12,8 +12,8 @@ public class ForeachStmt extends Statement {
     private Statement body;
 
     public ForeachStmt(Identifier variable, Expression list) {
-        this.variable = variable;
-        this.list = list;
+        this.variable = replaceChild(this.variable, variable, 0);
+        this.list = replaceChild(this.list, list, 1);
     }
 
     public Identifier getVariable() {
@@ -21,7 +21,7 @@ public class ForeachStmt extends Statement {
     }
 
     public void setVariable(Identifier variable) {
-        this.variable = variable;
+        this.variable = replaceChild(this.variable, variable, 0);
     }
 
     public Expression getList() {
@@ -29,7 +29,7 @@ public class ForeachStmt extends Statement {
     }
 
     public void setList(Expression list) {
-        this.list = list;
+        this.list = replaceChild(this.list, list, 1);
     }
 
     public Statement getBody() {
@@ -37,7 +37,7 @@ public class ForeachStmt extends Statement {
     }
 
     public void setBody(Statement body) {
-        this.body = body;
+        this.body = replaceChild(this.body, body, 2);
     }
 
     @Override
@@ -1,11 +1,27 @@
 package main.ast.types.list;
 
 import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.single.ClassType;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class ListType extends Type {
     private ArrayList<ListNameType> elementsTypes = new ArrayList<>();
+    //list(n # type) keeps its single element and the count, the n entries are only built if someone asks for them
+    private boolean repeated = false;
+    private ListNameType repeatedElement;
+    private int repeatCount;
+    //worked out on first use for the entries as they were then, and again once the entries are replaced or
+    //grow; entries are not replaced in place
+    private ArrayList<ListNameType> describedEntries;
+    private int describedSize;
+    private boolean homogeneous;
+    private Map<String, Integer> nameIndexes;
 
     public ListType() {
     }
@@ -15,21 +31,125 @@ public class ListType extends Type {
     }
 
     public ListType(int listSize, ListNameType listNameType) {
-        for(int i=0; i < listSize; i++) {
-            elementsTypes.add(listNameType);
+        this.repeated = true;
+        this.repeatedElement = listNameType;
+        this.repeatCount = Math.max(listSize, 0);
+    }
+
+    public boolean isRepeated() {
+        return repeated;
+    }
+
+    public ListNameType getRepeatedElement() {
+        return repeatedElement;
+    }
+
+    public int getSize() {
+        return isRepeated() ? repeatCount : elementsTypes.size();
+    }
+
+    public ListNameType getElementType(int index) {
+        if(isRepeated()) {
+            if(index < 0 || index >= repeatCount)
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + repeatCount);
+            return repeatedElement;
         }
+        return elementsTypes.get(index);
+    }
+
+    //a read-only view of the entries, a repeated list stays repeated. prefer getSize and getElementType
+    public List<ListNameType> getElementsTypes() {
+        if(isRepeated())
+            return Collections.nCopies(repeatCount, repeatedElement);
+        return Collections.unmodifiableList(elementsTypes);
+    }
+
+    //whether all entries have the same type structure, element names aside. such a list is never multi-type
+    public boolean isHomogeneous() {
+        if(isRepeated())
+            return true;
+        describe();
+        return homogeneous;
+    }
+
+    //the type every entry has when the list is homogeneous and not empty, null otherwise
+    public Type getCommonElementType() {
+        if(!isHomogeneous() || getSize() == 0)
+            return null;
+        return getElementType(0).getType();
     }
 
-    public ArrayList<ListNameType> getElementsTypes() {
-        return elementsTypes;
+    //the first entry with the given name, -1 when there is none
+    public int indexOf(String name) {
+        if(isRepeated())
+            return (repeatCount > 0 && repeatedElement.getName().getName().equals(name)) ? 0 : -1;
+        describe();
+        if(nameIndexes == null)
+            nameIndexes = indexNames();
+        Integer index = nameIndexes.get(name);
+        return (index == null) ? -1 : index;
+    }
+
+    private void describe() {
+        if(describedEntries == elementsTypes && describedSize == elementsTypes.size())
+            return;
+        describedEntries = elementsTypes;
+        describedSize = elementsTypes.size();
+        nameIndexes = null;
+        homogeneous = true;
+        for(int i = 1; i < describedSize && homogeneous; i++)
+            homogeneous = sameStructure(elementsTypes.get(0).getType(), elementsTypes.get(i).getType());
+    }
+
+    private Map<String, Integer> indexNames() {
+        Map<String, Integer> indexes = new HashMap<>();
+        for(int i = 0; i < elementsTypes.size(); i++)
+            indexes.putIfAbsent(elementsTypes.get(i).getName().getName(), i);
+        return indexes;
+    }
+
+    private static boolean sameStructure(Type a, Type b) {
+        if(a == b)
+            return true;
+        if(a == null || b == null || a.getClass() != b.getClass())
+            return false;
+        if(a instanceof ClassType)
+            return ((ClassType) a).getClassName().getName().equals(((ClassType) b).getClassName().getName());
+        if(a instanceof ListType) {
+            ListType listA = (ListType) a;
+            ListType listB = (ListType) b;
+            if(listA.getSize() != listB.getSize())
+                return false;
+            int size = (listA.isRepeated() && listB.isRepeated()) ? Math.min(listA.getSize(), 1) : listA.getSize();
+            for(int i = 0; i < size; i++)
+                if(!sameStructure(listA.getElementType(i).getType(), listB.getElementType(i).getType()))
+                    return false;
+            return true;
+        }
+        if(a instanceof FptrType) {
+            FptrType fptrA = (FptrType) a;
+            FptrType fptrB = (FptrType) b;
+            if(fptrA.getArgumentsTypes().size() != fptrB.getArgumentsTypes().size())
+                return false;
+            for(int i = 0; i < fptrA.getArgumentsTypes().size(); i++)
+                if(!sameStructure(fptrA.getArgumentsTypes().get(i), fptrB.getArgumentsTypes().get(i)))
+                    return false;
+            return sameStructure(fptrA.getReturnType(), fptrB.getReturnType());
+        }
+        return true;
     }
 
     public void setElementsTypes(ArrayList<ListNameType> elementsTypes) {
         this.elementsTypes = elementsTypes;
+        this.repeated = false;
+        this.repeatedElement = null;
+        this.repeatCount = 0;
     }
 
     public void addElementType(ListNameType listNameType) {
-        this.elementsTypes.add(listNameType);
+        if(isRepeated())
+            setElementsTypes(new ArrayList<>(Collections.nCopies(repeatCount, repeatedElement)));
+        elementsTypes.add(listNameType);
     }
 
     @Override
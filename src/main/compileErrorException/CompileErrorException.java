@@ -1,15 +1,38 @@
 package main.compileErrorException;
 
 public class CompileErrorException extends Exception {
-    private int line;
-    private String message;
+    private static final long serialVersionUID = 1L;
+    private static final Object[] NO_PARTS = {};
 
+    private final int line;
+    private final String message;
+    private final Object[] parts;
+
+    // diagnostics are collected, never thrown, so no stack trace is captured and
+    // the message parts are only concatenated when the message is asked for
     public CompileErrorException(int line, String message) {
+        this(line, message, NO_PARTS);
+    }
+
+    public CompileErrorException(int line, String message, Object... parts) {
+        super(null, null, false, false);
         this.line = line;
         this.message = message;
+        this.parts = parts;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getCode() {
+        return getClass().getSimpleName();
     }
 
     public String getMessage() {
-        return "Line:" + this.line + ":" + this.message;
+        StringBuilder builder = new StringBuilder("Line:").append(this.line).append(':').append(this.message);
+        for(Object part : this.parts)
+            builder.append(part);
+        return builder.toString();
     }
 }
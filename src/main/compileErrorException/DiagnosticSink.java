@@ -0,0 +1,77 @@
+package main.compileErrorException;
+
+import main.ast.nodes.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+//collects the errors attached to nodes by the compilation running on the current thread, each with the report
+//path of its node, so they can be reported without walking the program
+public class DiagnosticSink {
+    private static final ThreadLocal<DiagnosticSink> current = new ThreadLocal<>();
+
+    private List<Diagnostic> pending = new ArrayList<>();
+    private int total = 0;
+
+    public static DiagnosticSink open() {
+        DiagnosticSink sink = new DiagnosticSink();
+        current.set(sink);
+        return sink;
+    }
+
+    public static void close() {
+        current.remove();
+    }
+
+    public static DiagnosticSink getCurrent() {
+        return current.get();
+    }
+
+    public void record(Node node, CompileErrorException error) {
+        pending.add(new Diagnostic(node.getReportPath(), node, error));
+        total++;
+    }
+
+    //errors recorded since the last drain, by the report paths of their nodes and, on one node, as they were added.
+    //errors of nodes outside the program come first
+    public List<Diagnostic> drain() {
+        List<Diagnostic> drained = pending;
+        pending = new ArrayList<>();
+        drained.sort(Comparator.comparing(Diagnostic::getPath, Comparator.nullsFirst(Arrays::compare)));
+        return drained;
+    }
+
+    public int getPending() {
+        return pending.size();
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public static class Diagnostic {
+        private final long[] path;
+        private final Node node;
+        private final CompileErrorException error;
+
+        Diagnostic(long[] path, Node node, CompileErrorException error) {
+            this.path = path;
+            this.node = node;
+            this.error = error;
+        }
+
+        public long[] getPath() {
+            return path;
+        }
+
+        public Node getNode() {
+            return node;
+        }
+
+        public CompileErrorException getError() {
+            return error;
+        }
+    }
+}
@@ -4,9 +4,10 @@ import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.compileErrorException.CompileErrorException;
 
 public class ClassInCyclicInheritance extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ClassInCyclicInheritance(ClassDeclaration classDeclaration) {
-        super(classDeclaration.getLine(), "Class " + classDeclaration.getClassName().getName() + " is in an inheritance cycle");
+        super(classDeclaration.getLine(), "Class ", classDeclaration.getClassName().getName(), " is in an inheritance cycle");
     }
 
 }
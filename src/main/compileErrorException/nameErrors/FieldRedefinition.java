@@ -4,9 +4,10 @@ import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
 import main.compileErrorException.CompileErrorException;
 
 public class FieldRedefinition extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public FieldRedefinition(FieldDeclaration fieldDeclaration) {
-        super(fieldDeclaration.getLine(), "Redefinition of field " + fieldDeclaration.getVarDeclaration().getVarName().getName());
+        super(fieldDeclaration.getLine(), "Redefinition of field ", fieldDeclaration.getVarDeclaration().getVarName().getName());
     }
 
 }
@@ -4,9 +4,10 @@ import main.ast.nodes.declaration.variableDec.VarDeclaration;
 import main.compileErrorException.CompileErrorException;
 
 public class LocalVarRedefinition extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public LocalVarRedefinition(VarDeclaration varDeclaration) {
-        super(varDeclaration.getLine(), "Redefinition of local variable " + varDeclaration.getVarName().getName());
+        super(varDeclaration.getLine(), "Redefinition of local variable ", varDeclaration.getVarName().getName());
     }
 
 }
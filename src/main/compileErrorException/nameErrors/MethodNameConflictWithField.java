@@ -4,9 +4,10 @@ import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
 import main.compileErrorException.CompileErrorException;
 
 public class MethodNameConflictWithField extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public MethodNameConflictWithField(MethodDeclaration methodDeclaration) {
-        super(methodDeclaration.getLine(), "Name of method " + methodDeclaration.getMethodName().getName() + " conflicts with a field's name");
+        super(methodDeclaration.getLine(), "Name of method ", methodDeclaration.getMethodName().getName(), " conflicts with a field's name");
     }
 
 }
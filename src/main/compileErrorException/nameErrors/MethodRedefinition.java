@@ -4,9 +4,10 @@ import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
 import main.compileErrorException.CompileErrorException;
 
 public class MethodRedefinition extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public MethodRedefinition(MethodDeclaration methodDeclaration) {
-        super(methodDeclaration.getLine(), "Redefinition of method " + methodDeclaration.getMethodName().getName());
+        super(methodDeclaration.getLine(), "Redefinition of method ", methodDeclaration.getMethodName().getName());
     }
 
 }
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class CallOnNoneFptrType extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public CallOnNoneFptrType(int line) {
         super(line, "Calling a non-callable");
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class CannotExtendFromMainClass extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public CannotExtendFromMainClass(int line) {
         super(line, "Classes cannot extend from Main class");
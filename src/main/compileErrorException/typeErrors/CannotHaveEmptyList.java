@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class CannotHaveEmptyList extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public CannotHaveEmptyList(int line) {
         super(line, "Cannot have empty list");
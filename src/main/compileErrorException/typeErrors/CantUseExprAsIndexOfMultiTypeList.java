@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class CantUseExprAsIndexOfMultiTypeList extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public CantUseExprAsIndexOfMultiTypeList(int line) {
         super(line, "Expression cannot be used as index of multi-type list");
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class CantUseValueOfVoidMethod extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public CantUseValueOfVoidMethod(int line) {
         super(line, "Cannot use return value of a method having void return type");
@@ -3,9 +3,10 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class ClassNotDeclared extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ClassNotDeclared(int line, String className) {
-        super(line, "Class " + className + " is not declared");
+        super(line, "Class ", className, " is not declared");
     }
 
 }
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class ConditionNotBool extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ConditionNotBool(int line) {
         super(line, "Condition must be bool");
@@ -4,9 +4,10 @@ import main.ast.nodes.expression.NewClassInstance;
 import main.compileErrorException.CompileErrorException;
 
 public class ConstructorArgsNotMatchDefinition extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ConstructorArgsNotMatchDefinition(NewClassInstance newClassInstance) {
-        super(newClassInstance.getLine(), "Constructor args do not match with definition of class " + newClassInstance.getClassType().getClassName().getName());
+        super(newClassInstance.getLine(), "Constructor args do not match with definition of class ", newClassInstance.getClassType().getClassName().getName());
     }
 
 }
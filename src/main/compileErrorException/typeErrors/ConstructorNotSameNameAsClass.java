@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class ConstructorNotSameNameAsClass extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ConstructorNotSameNameAsClass(int line) {
         super(line, "Constructor name does not match with class name");
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class DuplicateListId extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public DuplicateListId(int line) {
         super(line, "List elements cannot have the same id");
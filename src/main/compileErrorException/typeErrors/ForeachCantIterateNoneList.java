@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class ForeachCantIterateNoneList extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ForeachCantIterateNoneList(int line) {
         super(line, "Foreach cannot iterate over a non-list");
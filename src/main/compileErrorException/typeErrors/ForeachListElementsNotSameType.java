@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class ForeachListElementsNotSameType extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ForeachListElementsNotSameType(int line) {
         super(line, "Foreach list elements do not have the same type");
@@ -4,10 +4,11 @@ import main.ast.nodes.statement.loop.ForeachStmt;
 import main.compileErrorException.CompileErrorException;
 
 public class ForeachVarNotMatchList extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     //compare with first element
     public ForeachVarNotMatchList(ForeachStmt foreachStmt) {
-        super(foreachStmt.getLine(), "Foreach variable " + foreachStmt.getVariable().getName() + " and list elements types do not match");
+        super(foreachStmt.getLine(), "Foreach variable ", foreachStmt.getVariable().getName(), " and list elements types do not match");
     }
 
 }
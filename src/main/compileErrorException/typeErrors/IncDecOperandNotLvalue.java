@@ -3,9 +3,10 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class IncDecOperandNotLvalue extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public IncDecOperandNotLvalue(int line, String operatorName) {
-        super(line, "Lvalue required as " + operatorName + " operand");
+        super(line, "Lvalue required as ", operatorName, " operand");
     }
 
 }
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class LeftSideNotLvalue extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public LeftSideNotLvalue(int line) {
         super(line, "Left side of assignment must be a valid lvalue");
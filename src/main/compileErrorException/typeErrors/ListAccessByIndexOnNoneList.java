@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class ListAccessByIndexOnNoneList extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ListAccessByIndexOnNoneList(int line) {
         super(line, "Access by index on a non-list");
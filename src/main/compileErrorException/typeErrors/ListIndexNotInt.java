@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class ListIndexNotInt extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ListIndexNotInt(int line) {
         super(line, "List index is not an integer");
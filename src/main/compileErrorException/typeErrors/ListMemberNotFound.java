@@ -3,9 +3,10 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class ListMemberNotFound extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ListMemberNotFound(int line, String name) {
-        super(line, "There is no element named " + name + " in the list");
+        super(line, "There is no element named ", name, " in the list");
     }
 
 }
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class MainClassCantExtend extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public MainClassCantExtend(int line) {
         super(line, "Main class cannot extend from any class");
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class MainConstructorCantHaveArgs extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public MainConstructorCantHaveArgs(int line) {
         super(line, "Main constructor cannot have arguments");
@@ -3,9 +3,10 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class MemberNotAvailableInClass extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public MemberNotAvailableInClass(int line, String memberName, String className) {
-        super(line, "There is no member named " + memberName + " in class " + className);
+        super(line, "There is no member named ", memberName, " in class ", className);
     }
 
 }
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class MethodCallNotMatchDefinition extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public MethodCallNotMatchDefinition(int line) {
         super(line, "Args in method call do not match with definition");
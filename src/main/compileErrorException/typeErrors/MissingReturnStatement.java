@@ -4,9 +4,10 @@ import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
 import main.compileErrorException.CompileErrorException;
 
 public class MissingReturnStatement extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public MissingReturnStatement(MethodDeclaration methodDeclaration) {
-        super(methodDeclaration.getLine(), "Method " + methodDeclaration.getMethodName().getName() + " needs return statement");
+        super(methodDeclaration.getLine(), "Method ", methodDeclaration.getMethodName().getName(), " needs return statement");
     }
 
 }
@@ -4,6 +4,7 @@ import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.compileErrorException.CompileErrorException;
 
 public class NoConstructorInMainClass extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public NoConstructorInMainClass(ClassDeclaration mainClassDeclaration) {
         super(mainClassDeclaration.getLine(), "No constructor found for Main class");
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class NoMainClass extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public NoMainClass() {
         super(1, "Main class is not found");
@@ -4,6 +4,7 @@ import main.ast.nodes.statement.ReturnStmt;
 import main.compileErrorException.CompileErrorException;
 
 public class ReturnValueNotMatchMethodReturnType extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public ReturnValueNotMatchMethodReturnType(ReturnStmt returnStmt) {
         super(returnStmt.getLine(), "Return value does not match with method return type");
@@ -4,6 +4,7 @@ import main.ast.nodes.statement.Statement;
 import main.compileErrorException.CompileErrorException;
 
 public class UnreachableStatements extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public UnreachableStatements(Statement statement) {
         super(statement.getLine(), "Statements are unreachable");
@@ -3,9 +3,10 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class UnsupportedOperandType extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public UnsupportedOperandType(int line, String operatorName) {
-        super(line, "Unsupported operand type for operator " + operatorName);
+        super(line, "Unsupported operand type for operator ", operatorName);
     }
 
 }
@@ -3,6 +3,7 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class UnsupportedTypeForPrint extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public UnsupportedTypeForPrint(int line) {
         super(line, "Unsupported type for print");
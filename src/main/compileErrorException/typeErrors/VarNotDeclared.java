@@ -3,9 +3,10 @@ package main.compileErrorException.typeErrors;
 import main.compileErrorException.CompileErrorException;
 
 public class VarNotDeclared extends CompileErrorException {
+    private static final long serialVersionUID = 1L;
 
     public VarNotDeclared(int line, String varName) {
-        super(line, "Variable " + varName + " is not declared");
+        super(line, "Variable ", varName, " is not declared");
     }
 
 }
@@ -0,0 +1,34 @@
+package main.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.charset.StandardCharsets;
+
+//request  -> op, [file name, source]
+//response -> exit status, compiler output, syntax errors
+//an unknown op or a text over the limit is answered with DAEMON_ERROR and the reason as the syntax errors
+public class DaemonProtocol {
+    public static final byte COMPILE = 1;
+    public static final byte SHUTDOWN = 2;
+
+    public static final int DAEMON_ERROR = 2;
+    //requests come from any client, so their lengths are checked before anything is allocated for them
+    public static final int MAX_REQUEST_TEXT_BYTES = 64 << 20;
+
+    public static void writeText(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readText(DataInputStream in, int maxBytes) throws IOException {
+        int length = in.readInt();
+        if(length < 0 || length > maxBytes)
+            throw new ProtocolException("text of " + length + " bytes, at most " + maxBytes + " allowed");
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
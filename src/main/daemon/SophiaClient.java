@@ -0,0 +1,45 @@
+package main.daemon;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class SophiaClient {
+    public static void main(String[] args) throws IOException {
+        if(args.length == 2 && args[1].equals("--shutdown")) {
+            request(Paths.get(args[0]), DaemonProtocol.SHUTDOWN, null);
+            return;
+        }
+        if(args.length != 2) {
+            System.err.println("usage: SophiaClient <socket path> <source file>|--shutdown");
+            System.exit(DaemonProtocol.DAEMON_ERROR);
+        }
+        int exitStatus = request(Paths.get(args[0]), DaemonProtocol.COMPILE, Paths.get(args[1]));
+        System.exit(exitStatus);
+    }
+
+    private static int request(Path socketPath, byte op, Path sourceFile) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            out.writeByte(op);
+            if(op == DaemonProtocol.COMPILE) {
+                DaemonProtocol.writeText(out, sourceFile.toString());
+                DaemonProtocol.writeText(out, Files.readString(sourceFile, StandardCharsets.UTF_8));
+            }
+            out.flush();
+            int exitStatus = in.readInt();
+            System.out.print(DaemonProtocol.readText(in, Integer.MAX_VALUE));
+            System.err.print(DaemonProtocol.readText(in, Integer.MAX_VALUE));
+            System.out.flush();
+            return exitStatus;
+        }
+    }
+}
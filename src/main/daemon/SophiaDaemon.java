@@ -0,0 +1,122 @@
+package main.daemon;
+
+import main.CompilationCrashedException;
+import main.CompilationResult;
+import main.SophiaCompiler;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.*;
+import java.net.ProtocolException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+//keeps one JVM (and the lexer/parser DFA caches, which are static) alive between compiles
+//every compile gets its own CompilationContext, so clients are served concurrently
+public class SophiaDaemon {
+    private final Path socketPath;
+    private final SophiaCompiler sophiaCompiler = new SophiaCompiler();
+    private final ExecutorService workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    private ServerSocketChannel server;
+    private volatile boolean running = true;
+
+    public SophiaDaemon(Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if(args.length != 1) {
+            System.err.println("usage: SophiaDaemon <socket path>");
+            System.exit(DaemonProtocol.DAEMON_ERROR);
+        }
+        new SophiaDaemon(Paths.get(args[0])).serve();
+    }
+
+    public void serve() throws IOException {
+        Files.deleteIfExists(socketPath);
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            this.server = server;
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            while(running) {
+                SocketChannel client;
+                try {
+                    client = server.accept();
+                } catch (AsynchronousCloseException e) {
+                    break;
+                }
+                workers.execute(() -> serveClient(client));
+            }
+        } finally {
+            workers.shutdown();
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    private void serveClient(SocketChannel client) {
+        try (client) {
+            handle(client);
+        } catch (IOException e) {
+            System.err.println("sophia daemon: " + e.getMessage());
+        }
+    }
+
+    private void handle(SocketChannel client) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(client)));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+        byte op = in.readByte();
+        if(op == DaemonProtocol.SHUTDOWN) {
+            running = false;
+            reply(out, 0, "", "");
+            server.close();
+            return;
+        }
+        if(op != DaemonProtocol.COMPILE) {
+            reply(out, DaemonProtocol.DAEMON_ERROR, "", "sophia daemon: unknown op " + op + System.lineSeparator());
+            return;
+        }
+        String fileName;
+        String source;
+        try {
+            fileName = DaemonProtocol.readText(in, DaemonProtocol.MAX_REQUEST_TEXT_BYTES);
+            source = DaemonProtocol.readText(in, DaemonProtocol.MAX_REQUEST_TEXT_BYTES);
+        } catch (ProtocolException e) {
+            reply(out, DaemonProtocol.DAEMON_ERROR, "", "sophia daemon: " + e.getMessage() + System.lineSeparator());
+            return;
+        }
+
+        StringWriter compilerOutput = new StringWriter();
+        StringWriter syntaxErrors = new StringWriter();
+        int exitStatus;
+        try (PrintWriter outWriter = new PrintWriter(compilerOutput);
+             PrintWriter errWriter = new PrintWriter(syntaxErrors)) {
+            try {
+                CharStream charStream = CharStreams.fromString(source, fileName);
+                CompilationResult result = sophiaCompiler.compile(charStream);
+                result.print(outWriter, errWriter);
+                exitStatus = result.getExitStatus();
+            } catch (CompilationCrashedException e) {
+                e.getPartialResult().print(outWriter, errWriter);
+                errWriter.println("sophia daemon: " + e.getMessage());
+                exitStatus = DaemonProtocol.DAEMON_ERROR;
+            }
+        }
+        reply(out, exitStatus, compilerOutput.toString(), syntaxErrors.toString());
+    }
+
+    private static void reply(DataOutputStream out, int exitStatus, String compilerOutput, String syntaxErrors)
+            throws IOException {
+        out.writeInt(exitStatus);
+        DaemonProtocol.writeText(out, compilerOutput);
+        DaemonProtocol.writeText(out, syntaxErrors);
+        out.flush();
+    }
+}
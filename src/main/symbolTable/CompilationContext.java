@@ -0,0 +1,47 @@
+package main.symbolTable;
+
+import main.symbolTable.utils.graph.Graph;
+import main.symbolTable.utils.stack.Stack;
+
+//everything a single compilation shares between its passes; one instance per compile
+public class CompilationContext {
+    private SymbolTable top;
+    private SymbolTable root;
+    private final Stack<SymbolTable> stack = new Stack<>();
+    private Graph<String> classHierarchy = new Graph<>();
+    private final SymbolKeys symbolKeys = new SymbolKeys();
+
+    public void push(SymbolTable symbolTable) {
+        if (top != null)
+            stack.push(top);
+        top = symbolTable;
+    }
+
+    public void pop() {
+        top = stack.pop();
+    }
+
+    public SymbolTable getTop() {
+        return top;
+    }
+
+    public SymbolTable getRoot() {
+        return root;
+    }
+
+    public void setRoot(SymbolTable root) {
+        this.root = root;
+    }
+
+    public SymbolKeys getSymbolKeys() {
+        return symbolKeys;
+    }
+
+    public Graph<String> getClassHierarchy() {
+        return classHierarchy;
+    }
+
+    public void setClassHierarchy(Graph<String> classHierarchy) {
+        this.classHierarchy = classHierarchy;
+    }
+}
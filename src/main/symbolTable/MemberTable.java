@@ -0,0 +1,83 @@
+package main.symbolTable;
+
+import main.symbolTable.items.FieldSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolTableItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//every member a class can reach through its symbol table chain, flattened so a lookup is one probe.
+//a field anywhere in the chain hides a method of the same name, like the field-then-method lookup it replaces
+public class MemberTable {
+    private final Map<String, SymbolTableItem> members = new HashMap<>();
+    private final Map<String, MethodSymbolTableItem> methods = new HashMap<>();
+    private final List<FieldSymbolTableItem> fieldLayout = new ArrayList<>();
+    private final Map<FieldSymbolTableItem, Integer> fieldOffsets = new HashMap<>();
+    private final int version;
+
+    private MemberTable(SymbolTable classSymbolTable) {
+        this.version = classSymbolTable.getVersion();
+        SymbolTable[] chain = new SymbolTable[classSymbolTable.getChainLength()];
+        SymbolTable current = classSymbolTable;
+        for(int i = 0; i < chain.length; i++) {
+            chain[i] = current;
+            current = current.getPre();
+        }
+        for(SymbolTable symbolTable : chain)
+            for(SymbolTableItem item : symbolTable.getItems())
+                if(item instanceof FieldSymbolTableItem)
+                    members.putIfAbsent(item.getName(), item);
+        for(SymbolTable symbolTable : chain)
+            for(SymbolTableItem item : symbolTable.getItems())
+                if(item instanceof MethodSymbolTableItem) {
+                    members.putIfAbsent(item.getName(), item);
+                    methods.putIfAbsent(item.getName(), (MethodSymbolTableItem) item);
+                }
+        //inherited fields first, each table's own in declaration order; hidden fields keep their slot
+        for(int i = chain.length - 1; i >= 0; i--) {
+            for(SymbolTableItem item : chain[i].getItems()) {
+                if(item instanceof FieldSymbolTableItem) {
+                    fieldOffsets.put((FieldSymbolTableItem) item, fieldLayout.size());
+                    fieldLayout.add((FieldSymbolTableItem) item);
+                }
+            }
+        }
+    }
+
+    public static MemberTable of(SymbolTable classSymbolTable) {
+        return new MemberTable(classSymbolTable);
+    }
+
+    public boolean isCurrent(SymbolTable classSymbolTable) {
+        return version == classSymbolTable.getVersion();
+    }
+
+    //null if the class has no member with this name
+    public SymbolTableItem get(String name) {
+        return members.get(name);
+    }
+
+    public FieldSymbolTableItem getField(String name) {
+        SymbolTableItem member = members.get(name);
+        return (member instanceof FieldSymbolTableItem) ? (FieldSymbolTableItem) member : null;
+    }
+
+    //the nearest method even if a field hides it
+    public MethodSymbolTableItem getMethod(String name) {
+        return methods.get(name);
+    }
+
+    public List<FieldSymbolTableItem> getFieldLayout() {
+        return Collections.unmodifiableList(fieldLayout);
+    }
+
+    //-1 if the field is not part of this class's objects
+    public int getFieldOffset(FieldSymbolTableItem field) {
+        Integer offset = fieldOffsets.get(field);
+        return (offset == null) ? -1 : offset;
+    }
+}
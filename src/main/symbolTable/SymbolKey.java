@@ -0,0 +1,43 @@
+package main.symbolTable;
+
+//one instance per (kind, name) in a compilation, so keys compare and hash by identity and looking one up
+//allocates nothing; SymbolKeys hands them out
+public final class SymbolKey {
+    public enum Kind {
+        CLASS, METHOD, FIELD, VAR
+    }
+
+    private final Kind kind;
+    private final String name;
+    private final int nameId;
+    private final int hash;
+
+    SymbolKey(Kind kind, String name, int nameId) {
+        this.kind = kind;
+        this.name = name;
+        this.nameId = nameId;
+        this.hash = nameId * Kind.values().length + kind.ordinal();
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNameId() {
+        return nameId;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return kind + "_" + name;
+    }
+}
@@ -0,0 +1,34 @@
+package main.symbolTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//the keys and name ids of one compilation; they go away with its CompilationContext
+public class SymbolKeys {
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private final List<Map<String, SymbolKey>> keys = new ArrayList<>();
+
+    public SymbolKeys() {
+        for(int i = 0; i < SymbolKey.Kind.values().length; i++)
+            keys.add(new HashMap<>());
+    }
+
+    //interns the key; used when an item is put into a table
+    public SymbolKey of(SymbolKey.Kind kind, String name) {
+        Map<String, SymbolKey> kindKeys = keys.get(kind.ordinal());
+        SymbolKey key = kindKeys.get(name);
+        if(key == null) {
+            Integer nameId = nameIds.computeIfAbsent(name, n -> nameIds.size());
+            key = new SymbolKey(kind, name, nameId);
+            kindKeys.put(name, key);
+        }
+        return key;
+    }
+
+    //null if no item with this kind and name was put in this compilation, which no table can contain
+    public SymbolKey find(SymbolKey.Kind kind, String name) {
+        return keys.get(kind.ordinal()).get(name);
+    }
+}
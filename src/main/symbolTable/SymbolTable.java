@@ -4,62 +4,82 @@ package main.symbolTable;
 import main.symbolTable.exceptions.ItemAlreadyExistsException;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.SymbolTableItem;
-import main.symbolTable.utils.stack.Stack;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 
 
 
 public class SymbolTable {
 
-    //Start of static members
+    //shared by every table linked to the same root: the keys of the compilation, and a version bumped whenever
+    //a pre link or any table's items change
+    private static class Links {
+        final SymbolKeys keys;
+        int version = 0;
 
-    public static SymbolTable top;
-    public static SymbolTable root;
-    private static Stack<SymbolTable> stack = new Stack<>();
-
-    public static void push(SymbolTable symbolTable) {
-        if (top != null)
-            stack.push(top);
-        top = symbolTable;
+        Links(SymbolKeys keys) {
+            this.keys = keys;
+        }
     }
 
-    public static void pop() {
-        top = stack.pop();
+    private SymbolTable pre;
+    private Map<SymbolKey, SymbolTableItem> items;
+    private final Links links;
+    private int chainLength = -1;
+    private int chainVersion = -1;
+
+    //a root, putting its items and those of the tables below it under keys from the given compilation
+    public SymbolTable(SymbolKeys keys) {
+        this.pre = null;
+        this.items = new LinkedHashMap<>();
+        this.links = new Links(keys);
     }
 
-    //End of static members
-
-    public SymbolTable pre;
-    private Map<String, SymbolTableItem> items;
+    public SymbolTable(SymbolTable pre) {
+        this.pre = pre;
+        this.items = new LinkedHashMap<>();
+        this.links = pre.links;
+    }
 
-    public SymbolTable() {
-        this(null);
+    public SymbolTable getPre() {
+        return pre;
     }
 
-    public SymbolTable(SymbolTable pre) {
+    public void setPre(SymbolTable pre) {
         this.pre = pre;
-        this.items = new HashMap<>();
+        this.links.version++;
     }
 
     public void put(SymbolTableItem item) throws ItemAlreadyExistsException {
-        if (items.containsKey(item.getKey()))
+        SymbolKey key = links.keys.of(item.getKind(), item.getName());
+        if (items.containsKey(key))
             throw new ItemAlreadyExistsException();
-        items.put(item.getKey(), item);
+        items.put(key, item);
+        this.links.version++;
+    }
+
+    //in the order they were put
+    public Collection<SymbolTableItem> getItems() {
+        return items.values();
     }
 
-    public SymbolTableItem getItem(String key, Boolean searchCurrent) throws ItemNotFoundException {
-        Set<SymbolTable> visitedSymbolTables = new HashSet<>();
+    public int getVersion() {
+        return links.version;
+    }
+
+    public SymbolTableItem getItem(SymbolKey key, Boolean searchCurrent) throws ItemNotFoundException {
+        if(key == null)
+            throw new ItemNotFoundException();
+        //the chain never visits a table twice, even when cyclic inheritance made the pre links loop
+        int remaining = getChainLength();
         SymbolTable currentSymbolTable = this;
         if(!searchCurrent) {
-            visitedSymbolTables.add(this);
+            remaining--;
             currentSymbolTable = this.pre;
         }
-        while((currentSymbolTable != null) && (!visitedSymbolTables.contains(currentSymbolTable))) {
-            visitedSymbolTables.add( currentSymbolTable );
+        for(; remaining > 0; remaining--) {
             SymbolTableItem symbolTableItem = currentSymbolTable.items.get(key);
             if( symbolTableItem != null )
                 return symbolTableItem;
@@ -68,4 +88,45 @@ public class SymbolTable {
         throw new ItemNotFoundException();
     }
 
+    //number of distinct tables reachable through pre, this one included
+    public int getChainLength() {
+        if(chainVersion != links.version) {
+            chainLength = measureChain(this);
+            chainVersion = links.version;
+        }
+        return chainLength;
+    }
+
+    //brent's cycle detection, so measuring allocates nothing
+    private static int measureChain(SymbolTable start) {
+        int power = 1;
+        int cycleLength = 1;
+        int seen = 1;
+        SymbolTable tortoise = start;
+        SymbolTable hare = start.pre;
+        while(hare != tortoise) {
+            if(hare == null)
+                return seen;
+            if(power == cycleLength) {
+                tortoise = hare;
+                power *= 2;
+                cycleLength = 0;
+            }
+            hare = hare.pre;
+            cycleLength++;
+            seen++;
+        }
+        tortoise = start;
+        hare = start;
+        for(int i = 0; i < cycleLength; i++)
+            hare = hare.pre;
+        int tailLength = 0;
+        while(tortoise != hare) {
+            tortoise = tortoise.pre;
+            hare = hare.pre;
+            tailLength++;
+        }
+        return tailLength + cycleLength;
+    }
+
 }
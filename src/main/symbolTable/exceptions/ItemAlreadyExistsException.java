@@ -1,4 +1,5 @@
 package main.symbolTable.exceptions;
 
 public class ItemAlreadyExistsException extends Exception {
+    private static final long serialVersionUID = 1L;
 }
@@ -2,4 +2,5 @@ package main.symbolTable.exceptions;
 
 
 public class ItemNotFoundException extends Exception {
+    private static final long serialVersionUID = 1L;
 }
@@ -2,12 +2,15 @@ package main.symbolTable.items;
 
 
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.symbolTable.MemberTable;
+import main.symbolTable.CompilationContext;
+import main.symbolTable.SymbolKey;
 import main.symbolTable.SymbolTable;
 
 public class ClassSymbolTableItem extends SymbolTableItem {
-    public static final String START_KEY = "Class_";
     private SymbolTable classSymbolTable;
     private ClassDeclaration classDeclaration;
+    private MemberTable members;
 
     public ClassSymbolTableItem(ClassDeclaration classDeclaration) {
         this.classDeclaration = classDeclaration;
@@ -22,6 +25,13 @@ public class ClassSymbolTableItem extends SymbolTableItem {
         this.classSymbolTable = classSymbolTable;
     }
 
+    //rebuilt only when a table was relinked or changed since the last build
+    public MemberTable getMembers() {
+        if(members == null || !members.isCurrent(classSymbolTable))
+            members = MemberTable.of(classSymbolTable);
+        return members;
+    }
+
     public ClassDeclaration getClassDeclaration() {
         return classDeclaration;
     }
@@ -31,7 +41,11 @@ public class ClassSymbolTableItem extends SymbolTableItem {
     }
 
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public SymbolKey.Kind getKind() {
+        return SymbolKey.Kind.CLASS;
+    }
+
+    public static SymbolKey keyOf(CompilationContext context, String name) {
+        return context.getSymbolKeys().find(SymbolKey.Kind.CLASS, name);
     }
 }
@@ -3,9 +3,10 @@ package main.symbolTable.items;
 
 import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
 import main.ast.types.Type;
+import main.symbolTable.CompilationContext;
+import main.symbolTable.SymbolKey;
 
 public class FieldSymbolTableItem extends SymbolTableItem {
-    public static String START_KEY = "Field_";
     protected Type type;
 
     public FieldSymbolTableItem(FieldDeclaration fieldDeclaration) {
@@ -13,8 +14,12 @@ public class FieldSymbolTableItem extends SymbolTableItem {
         this.type = fieldDeclaration.getVarDeclaration().getType();
     }
 
-    public String getKey() {
-        return START_KEY + this.name;
+    public SymbolKey.Kind getKind() {
+        return SymbolKey.Kind.FIELD;
+    }
+
+    public static SymbolKey keyOf(CompilationContext context, String name) {
+        return context.getSymbolKeys().find(SymbolKey.Kind.FIELD, name);
     }
 
     public Type getType() {
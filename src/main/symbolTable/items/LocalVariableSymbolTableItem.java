@@ -3,9 +3,10 @@ package main.symbolTable.items;
 
 import main.ast.nodes.declaration.variableDec.VarDeclaration;
 import main.ast.types.Type;
+import main.symbolTable.CompilationContext;
+import main.symbolTable.SymbolKey;
 
 public class LocalVariableSymbolTableItem extends SymbolTableItem {
-    public static String START_KEY = "Var_";
     protected Type type;
 
     public LocalVariableSymbolTableItem(VarDeclaration varDeclaration) {
@@ -13,8 +14,12 @@ public class LocalVariableSymbolTableItem extends SymbolTableItem {
         this.type = varDeclaration.getType();
     }
 
-    public String getKey() {
-        return START_KEY + this.name;
+    public SymbolKey.Kind getKind() {
+        return SymbolKey.Kind.VAR;
+    }
+
+    public static SymbolKey keyOf(CompilationContext context, String name) {
+        return context.getSymbolKeys().find(SymbolKey.Kind.VAR, name);
     }
 
     public Type getType() {
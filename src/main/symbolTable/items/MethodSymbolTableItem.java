@@ -4,12 +4,13 @@ package main.symbolTable.items;
 import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
 import main.ast.nodes.declaration.variableDec.VarDeclaration;
 import main.ast.types.Type;
+import main.symbolTable.CompilationContext;
+import main.symbolTable.SymbolKey;
 import main.symbolTable.SymbolTable;
 
 import java.util.ArrayList;
 
 public class MethodSymbolTableItem extends SymbolTableItem {
-    public static final String START_KEY = "Method_";
     private MethodDeclaration methodDeclaration;
     private Type returnType;
     private ArrayList<Type> argTypes = new ArrayList<>();
@@ -57,8 +58,12 @@ public class MethodSymbolTableItem extends SymbolTableItem {
     }
 
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public SymbolKey.Kind getKind() {
+        return SymbolKey.Kind.METHOD;
+    }
+
+    public static SymbolKey keyOf(CompilationContext context, String name) {
+        return context.getSymbolKeys().find(SymbolKey.Kind.METHOD, name);
     }
 
 }
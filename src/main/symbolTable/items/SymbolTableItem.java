@@ -1,10 +1,12 @@
 package main.symbolTable.items;
 
+import main.symbolTable.SymbolKey;
+
 public abstract class SymbolTableItem {
 
     protected String name;
 
-    public abstract String getKey();
+    public abstract SymbolKey.Kind getKind();
 
     public String getName() {
         return name;
@@ -0,0 +1,212 @@
+package main.symbolTable.utils.graph;
+
+import java.util.*;
+
+//the transitive closure of a frozen graph's parent relation. nodes in the same strongly connected
+//component reach each other; the components form a dag that is numbered with pre/post intervals when
+//it is a forest (every component has at most one parent component) and falls back to bitsets otherwise
+final class Closure<N> {
+    private final Map<N, Integer> ids = new HashMap<>();
+    private final int nodeCount;
+    private final int[][] parents;
+    private final int[] component;
+    private int componentCount = 0;
+    private final int[] pre;
+    private final int[] post;
+    private final BitSet[] ancestors;
+
+    Closure(Map<N, Set<N>> parentShipRelation) {
+        for(N node : parentShipRelation.keySet())
+            ids.put(node, ids.size());
+        this.nodeCount = ids.size();
+        //names only ever used as a parent get ids too, they just have no parents of their own
+        List<int[]> edges = new ArrayList<>();
+        for(Map.Entry<N, Set<N>> entry : parentShipRelation.entrySet()) {
+            int child = ids.get(entry.getKey());
+            for(N parent : entry.getValue()) {
+                Integer parentId = ids.get(parent);
+                if(parentId == null) {
+                    parentId = ids.size();
+                    ids.put(parent, parentId);
+                }
+                edges.add(new int[]{child, parentId});
+            }
+        }
+        int size = ids.size();
+        int[] degree = new int[size];
+        for(int[] edge : edges)
+            degree[edge[0]]++;
+        this.parents = new int[size][];
+        for(int i = 0; i < size; i++)
+            parents[i] = new int[degree[i]];
+        for(int[] edge : edges)
+            parents[edge[0]][--degree[edge[0]]] = edge[1];
+
+        this.component = new int[size];
+        findComponents();
+
+        int[] parentComponent = new int[componentCount];
+        Arrays.fill(parentComponent, -1);
+        boolean forest = true;
+        for(int node = 0; node < size && forest; node++) {
+            for(int parent : parents[node]) {
+                int from = component[node];
+                int to = component[parent];
+                if(from == to)
+                    continue;
+                if(parentComponent[from] == -1)
+                    parentComponent[from] = to;
+                else if(parentComponent[from] != to)
+                    forest = false;
+            }
+        }
+        if(forest) {
+            this.pre = new int[componentCount];
+            this.post = new int[componentCount];
+            this.ancestors = null;
+            numberForest(parentComponent);
+        } else {
+            this.pre = null;
+            this.post = null;
+            this.ancestors = new BitSet[componentCount];
+            collectAncestors();
+        }
+    }
+
+    //iterative tarjan, so deep hierarchies cannot overflow the stack. components are numbered in the
+    //order they are completed, which puts every component after all components it can reach
+    private void findComponents() {
+        int size = parents.length;
+        int[] index = new int[size];
+        int[] low = new int[size];
+        Arrays.fill(index, -1);
+        boolean[] onStack = new boolean[size];
+        int[] stack = new int[size];
+        int stackTop = 0;
+        int[] callStack = new int[size];
+        int[] nextEdge = new int[size];
+        int counter = 0;
+        for(int start = 0; start < size; start++) {
+            if(index[start] != -1)
+                continue;
+            int depth = 0;
+            callStack[0] = start;
+            nextEdge[start] = 0;
+            index[start] = low[start] = counter++;
+            stack[stackTop++] = start;
+            onStack[start] = true;
+            while(depth >= 0) {
+                int node = callStack[depth];
+                if(nextEdge[node] < parents[node].length) {
+                    int parent = parents[node][nextEdge[node]++];
+                    if(index[parent] == -1) {
+                        index[parent] = low[parent] = counter++;
+                        stack[stackTop++] = parent;
+                        onStack[parent] = true;
+                        nextEdge[parent] = 0;
+                        callStack[++depth] = parent;
+                    } else if(onStack[parent]) {
+                        low[node] = Math.min(low[node], index[parent]);
+                    }
+                    continue;
+                }
+                if(low[node] == index[node]) {
+                    int member;
+                    do {
+                        member = stack[--stackTop];
+                        onStack[member] = false;
+                        component[member] = componentCount;
+                    } while(member != node);
+                    componentCount++;
+                }
+                depth--;
+                if(depth >= 0) {
+                    int caller = callStack[depth];
+                    low[caller] = Math.min(low[caller], low[node]);
+                }
+            }
+        }
+    }
+
+    private void numberForest(int[] parentComponent) {
+        int[] childCount = new int[componentCount];
+        for(int c = 0; c < componentCount; c++)
+            if(parentComponent[c] != -1)
+                childCount[parentComponent[c]]++;
+        int[][] children = new int[componentCount][];
+        for(int c = 0; c < componentCount; c++)
+            children[c] = new int[childCount[c]];
+        for(int c = 0; c < componentCount; c++)
+            if(parentComponent[c] != -1)
+                children[parentComponent[c]][--childCount[parentComponent[c]]] = c;
+        int[] stack = new int[componentCount];
+        int[] nextChild = new int[componentCount];
+        int counter = 0;
+        for(int root = 0; root < componentCount; root++) {
+            if(parentComponent[root] != -1)
+                continue;
+            int depth = 0;
+            stack[0] = root;
+            pre[root] = counter++;
+            while(depth >= 0) {
+                int c = stack[depth];
+                if(nextChild[c] < children[c].length) {
+                    int child = children[c][nextChild[c]++];
+                    pre[child] = counter++;
+                    stack[++depth] = child;
+                } else {
+                    post[c] = counter++;
+                    depth--;
+                }
+            }
+        }
+    }
+
+    private void collectAncestors() {
+        for(int c = 0; c < componentCount; c++) {
+            ancestors[c] = new BitSet(componentCount);
+            ancestors[c].set(c);
+        }
+        //components are completed ancestors first, so grouping the nodes by component in that order
+        //lets every component take the already final sets of its parents
+        int[] order = new int[parents.length];
+        int[] start = new int[componentCount + 1];
+        for(int node = 0; node < parents.length; node++)
+            start[component[node] + 1]++;
+        for(int c = 0; c < componentCount; c++)
+            start[c + 1] += start[c];
+        int[] fill = Arrays.copyOf(start, componentCount);
+        for(int node = 0; node < parents.length; node++)
+            order[fill[component[node]]++] = node;
+        for(int node : order)
+            for(int parent : parents[node])
+                if(component[parent] != component[node])
+                    ancestors[component[node]].or(ancestors[component[parent]]);
+    }
+
+    //an edge from child to parent closes a cycle exactly when both ends are in one component
+    boolean closesCycle(N child, N parent) {
+        if(child.equals(parent))
+            return true;
+        Integer from = ids.get(child);
+        Integer to = ids.get(parent);
+        return from != null && to != null && component[from] == component[to];
+    }
+
+    //same answer as walking the parent edges from first, looking for second
+    boolean reaches(N first, N second) {
+        if(first.equals(second))
+            return true;
+        Integer from = ids.get(first);
+        Integer to = ids.get(second);
+        if(from == null || to == null || from >= nodeCount)
+            return false;
+        int a = component[from];
+        int b = component[to];
+        if(a == b)
+            return true;
+        if(ancestors != null)
+            return ancestors[a].get(b);
+        return pre[b] <= pre[a] && post[a] <= post[b];
+    }
+}
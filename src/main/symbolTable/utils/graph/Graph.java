@@ -7,11 +7,13 @@ import java.util.*;
 
 public class Graph<N> {
     private Map<N, Set<N>> parentShipRelation = new HashMap<>();
+    private Closure<N> closure;
 
     public void addNode(N desired) throws NodeAlreadyExistsException {
         if (parentShipRelation.containsKey(desired))
             throw new NodeAlreadyExistsException();
         parentShipRelation.put(desired, new HashSet<>());
+        closure = null;
     }
 
     public boolean doesGraphContainNode(N desired) {
@@ -22,6 +24,7 @@ public class Graph<N> {
         if (!parentShipRelation.containsKey(desired))
             throw new GraphDoesNotContainNodeException();
         parentShipRelation.get(desired).add(parentNode);
+        closure = null;
     }
 
     public Collection<N> getParentsOfNode(N desired) throws GraphDoesNotContainNodeException {
@@ -30,29 +33,22 @@ public class Graph<N> {
         return parentShipRelation.get(desired);
     }
 
-    public boolean isSecondNodeAncestorOf(N first , N second) {
-        Set<N> visitedNodes = new HashSet<>();
-        return _isSecondNodeAncestorOf(first,second, visitedNodes);
+    //precomputes every ancestor query; adding nodes or edges afterwards drops it until the next query
+    public void freeze() {
+        if(closure == null)
+            closure = new Closure<>(parentShipRelation);
+    }
+
+    //for an edge the graph has: true when desired is parentNode or one of its ancestors, so the edge closes a
+    //cycle; answered from the components of the single tarjan pass made by freeze instead of a search per edge
+    public boolean isInCycleWithParent(N desired, N parentNode) {
+        freeze();
+        return closure.closesCycle(desired, parentNode);
     }
 
-    private boolean _isSecondNodeAncestorOf(N first, N second, Set<N> visitedNodes) {
-        try {
-            if(first.equals(second))
-                return true;
-            Collection<N> parents = getParentsOfNode(first);
-            for(N node : parents) {
-                if (node.equals(second)) {
-                    return true;
-                }
-                if (visitedNodes.contains(node))
-                    continue;
-                visitedNodes.add(node);
-                if (_isSecondNodeAncestorOf(node, second, visitedNodes))
-                    return true;
-            }
-        } catch(GraphDoesNotContainNodeException ignored) {
-        }
-        return false;
+    public boolean isSecondNodeAncestorOf(N first , N second) {
+        freeze();
+        return closure.reaches(first, second);
     }
 
 }
@@ -1,4 +1,5 @@
 package main.symbolTable.utils.graph.exceptions;
 
 public class GraphDoesNotContainNodeException extends Exception {
+    private static final long serialVersionUID = 1L;
 }
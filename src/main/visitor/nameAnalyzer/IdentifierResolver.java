@@ -0,0 +1,205 @@
+package main.visitor.nameAnalyzer;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.symbolTable.CompilationContext;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.exceptions.ItemNotFoundException;
+import main.symbolTable.items.ClassSymbolTableItem;
+import main.symbolTable.items.LocalVariableSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
+import main.visitor.Visitor;
+
+//binds every identifier used as an expression to its symbol once, after name analysis,
+//so later passes read Identifier.getSymbol() instead of walking the symbol tables again
+public class IdentifierResolver extends Visitor<Void> {
+    private final CompilationContext context;
+    private SymbolTable currentMethodSymbolTable;
+
+    public IdentifierResolver(CompilationContext context) {
+        this.context = context;
+    }
+
+    public void resolve(Program program) {
+        program.accept(this);
+    }
+
+    //the table a method's names are looked up in: the class is found by name from the root and
+    //the method by name through the class and its ancestors, so a redefined method shares the first one's table
+    public static SymbolTable methodSymbolTable(CompilationContext context, ClassDeclaration classDeclaration,
+                                                MethodDeclaration methodDeclaration) {
+        try {
+            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) context.getRoot()
+                    .getItem(ClassSymbolTableItem.keyOf(context, classDeclaration.getClassName().getName()), true);
+            MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) classSymbolTableItem.getClassSymbolTable()
+                    .getItem(MethodSymbolTableItem.keyOf(context, methodDeclaration.getMethodName().getName()), true);
+            return methodSymbolTableItem.getMethodSymbolTable();
+        } catch (ItemNotFoundException ignored) {
+            return null;
+        }
+    }
+
+    public static LocalVariableSymbolTableItem lookup(CompilationContext context, SymbolTable methodSymbolTable, Identifier identifier) {
+        if(methodSymbolTable == null)
+            return null;
+        try {
+            return (LocalVariableSymbolTableItem) methodSymbolTable
+                    .getItem(LocalVariableSymbolTableItem.keyOf(context, identifier.getName()), true);
+        } catch (ItemNotFoundException ignored) {
+            return null;
+        }
+    }
+
+    @Override
+    public Void visit(Program program) {
+        for(ClassDeclaration classDeclaration : program.getClasses()) {
+            if(classDeclaration.getConstructor() != null)
+                resolveMethod(classDeclaration, classDeclaration.getConstructor());
+            for(MethodDeclaration methodDeclaration : classDeclaration.getMethods())
+                resolveMethod(classDeclaration, methodDeclaration);
+        }
+        return null;
+    }
+
+    private void resolveMethod(ClassDeclaration classDeclaration, MethodDeclaration methodDeclaration) {
+        currentMethodSymbolTable = methodSymbolTable(context, classDeclaration, methodDeclaration);
+        methodDeclaration.accept(this);
+        currentMethodSymbolTable = null;
+    }
+
+    @Override
+    public Void visit(ConstructorDeclaration constructorDeclaration) {
+        return this.visit((MethodDeclaration) constructorDeclaration);
+    }
+
+    @Override
+    public Void visit(MethodDeclaration methodDeclaration) {
+        for(Statement statement : methodDeclaration.getBody())
+            statement.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(AssignmentStmt assignmentStmt) {
+        assignmentStmt.getlValue().accept(this);
+        assignmentStmt.getrValue().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BlockStmt blockStmt) {
+        for(Statement statement : blockStmt.getStatements())
+            statement.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ConditionalStmt conditionalStmt) {
+        conditionalStmt.getCondition().accept(this);
+        conditionalStmt.getThenBody().accept(this);
+        if(conditionalStmt.getElseBody() != null)
+            conditionalStmt.getElseBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCallStmt methodCallStmt) {
+        methodCallStmt.getMethodCall().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt print) {
+        print.getArg().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        if(returnStmt.getReturnedExpr() != null)
+            returnStmt.getReturnedExpr().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForeachStmt foreachStmt) {
+        foreachStmt.getVariable().accept(this);
+        foreachStmt.getList().accept(this);
+        foreachStmt.getBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForStmt forStmt) {
+        if(forStmt.getInitialize() != null)
+            forStmt.getInitialize().accept(this);
+        if(forStmt.getCondition() != null)
+            forStmt.getCondition().accept(this);
+        if(forStmt.getUpdate() != null)
+            forStmt.getUpdate().accept(this);
+        forStmt.getBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        unaryExpression.getOperand().accept(this);
+        return null;
+    }
+
+    //the member name is resolved against the instance's type by the type checker
+    @Override
+    public Void visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        objectOrListMemberAccess.getInstance().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        identifier.setSymbol(lookup(context, currentMethodSymbolTable, identifier));
+        return null;
+    }
+
+    @Override
+    public Void visit(ListAccessByIndex listAccessByIndex) {
+        listAccessByIndex.getInstance().accept(this);
+        listAccessByIndex.getIndex().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCall methodCall) {
+        methodCall.getInstance().accept(this);
+        for(Expression expression : methodCall.getArgs())
+            expression.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(NewClassInstance newClassInstance) {
+        for(Expression expression : newClassInstance.getArgs())
+            expression.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ListValue listValue) {
+        for(Expression expression : listValue.getElements())
+            expression.accept(this);
+        return null;
+    }
+}
@@ -2,7 +2,7 @@ package main.visitor.nameAnalyzer;
 
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
-import main.symbolTable.SymbolTable;
+import main.symbolTable.CompilationContext;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.utils.graph.Graph;
@@ -11,17 +11,18 @@ import main.symbolTable.utils.graph.exceptions.NodeAlreadyExistsException;
 
 public class NameAnalyzer {
     private Program program;
-    private Graph<String> classHierarchy;
+    private CompilationContext context;
 
-    public NameAnalyzer(Program program) {
+    public NameAnalyzer(Program program, CompilationContext context) {
         this.program = program;
+        this.context = context;
     }
 
     public void analyze() {
-        NameCollector nameCollector = new NameCollector();
+        NameCollector nameCollector = new NameCollector(context);
         this.program.accept(nameCollector);
         this.linkParentSymbolTables();
-        NameChecker nameChecker = new NameChecker(classHierarchy);
+        NameChecker nameChecker = new NameChecker(context);
         this.program.accept(nameChecker);
     }
 
@@ -37,18 +38,19 @@ public class NameAnalyzer {
             String parentName = classDeclaration.getParentClassName().getName();
             try {
                 classHierarchy.addNodeAsParentOf(className, parentName);
-                ClassSymbolTableItem parentSTI = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + parentName, true);
-                ClassSymbolTableItem thisClassSTI = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + className, true);
-                thisClassSTI.getClassSymbolTable().pre = parentSTI.getClassSymbolTable();
+                ClassSymbolTableItem parentSTI = (ClassSymbolTableItem) context.getRoot()
+                        .getItem(ClassSymbolTableItem.keyOf(context, parentName), true);
+                ClassSymbolTableItem thisClassSTI = (ClassSymbolTableItem) context.getRoot()
+                        .getItem(ClassSymbolTableItem.keyOf(context, className), true);
+                thisClassSTI.getClassSymbolTable().setPre(parentSTI.getClassSymbolTable());
             } catch (ItemNotFoundException | GraphDoesNotContainNodeException ignored) { }
         }
-        this.classHierarchy = classHierarchy;
+        classHierarchy.freeze();
+        context.setClassHierarchy(classHierarchy);
     }
 
     public Graph<String> getClassHierarchy() {
-        return classHierarchy;
+        return context.getClassHierarchy();
     }
 
 }
@@ -9,36 +9,58 @@ import main.compileErrorException.nameErrors.ClassInCyclicInheritance;
 import main.compileErrorException.nameErrors.FieldRedefinition;
 import main.compileErrorException.nameErrors.MethodNameConflictWithField;
 import main.compileErrorException.nameErrors.MethodRedefinition;
+import main.symbolTable.CompilationContext;
 import main.symbolTable.SymbolTable;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.items.FieldSymbolTableItem;
 import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolTableItem;
 import main.symbolTable.utils.graph.Graph;
 import main.visitor.Visitor;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public class NameChecker extends Visitor<Void> {
     private String currentClassName;
+    private final CompilationContext context;
     private Graph<String> classHierarchy;
     Program root;
+    //field name -> classes whose own symbol table declares a field with that name
+    private final Map<String, List<String>> fieldDeclarers = new HashMap<>();
 
-    public NameChecker(Graph<String> classHierarchy) {
-        this.classHierarchy = classHierarchy;
+    public NameChecker(CompilationContext context) {
+        this.context = context;
+        this.classHierarchy = context.getClassHierarchy();
     }
 
     private SymbolTable getCurrentClassSymbolTable() {
         try {
             ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
-                    SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + this.currentClassName, true);
+                    context.getRoot().getItem(ClassSymbolTableItem.keyOf(context, this.currentClassName), true);
             return classSymbolTableItem.getClassSymbolTable();
         } catch (ItemNotFoundException ignored) {
             return null;
         }
     }
 
+    private void indexFieldDeclarers() {
+        for(SymbolTableItem item : context.getRoot().getItems()) {
+            if(!(item instanceof ClassSymbolTableItem))
+                continue;
+            for(SymbolTableItem member : ((ClassSymbolTableItem) item).getClassSymbolTable().getItems())
+                if(member instanceof FieldSymbolTableItem)
+                    fieldDeclarers.computeIfAbsent(member.getName(), name -> new ArrayList<>()).add(item.getName());
+        }
+    }
+
     @Override
     public Void visit(Program program) {
         this.root = program;
+        this.indexFieldDeclarers();
         for(ClassDeclaration classDeclaration : program.getClasses()) {
             this.currentClassName = classDeclaration.getClassName().getName();
             classDeclaration.accept(this);
@@ -49,7 +71,7 @@ public class NameChecker extends Visitor<Void> {
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
         if(classDeclaration.getParentClassName() != null) {
-            if (this.classHierarchy.isSecondNodeAncestorOf(classDeclaration.getParentClassName().getName(), classDeclaration.getClassName().getName())) {
+            if (this.classHierarchy.isInCycleWithParent(classDeclaration.getClassName().getName(), classDeclaration.getParentClassName().getName())) {
                 ClassInCyclicInheritance exception = new ClassInCyclicInheritance(classDeclaration);
                 classDeclaration.addError(exception);
             }
@@ -77,7 +99,7 @@ public class NameChecker extends Visitor<Void> {
         if(!methodDeclaration.hasError()) {
             try {
                 SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-                classSymbolTable.getItem(MethodSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), false);
+                classSymbolTable.getItem(MethodSymbolTableItem.keyOf(context, methodDeclaration.getMethodName().getName()), false);
                 MethodRedefinition exception = new MethodRedefinition(methodDeclaration);
                 methodDeclaration.addError(exception);
             } catch (ItemNotFoundException ignored) {
@@ -86,27 +108,25 @@ public class NameChecker extends Visitor<Void> {
         boolean errored = false;
         try {
             SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-            classSymbolTable.getItem(FieldSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true);
+            classSymbolTable.getItem(FieldSymbolTableItem.keyOf(context, methodDeclaration.getMethodName().getName()), true);
             MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration);
             methodDeclaration.addError(exception);
             errored = true;
         } catch (ItemNotFoundException ignored) {
         }
-        if(!errored)
-            for(ClassDeclaration classDeclaration : root.getClasses()) {
-                String childName = classDeclaration.getClassName().getName();
-                if(classHierarchy.isSecondNodeAncestorOf(childName, currentClassName)) {
-                    try {
-                        ClassSymbolTableItem childSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + childName, true);
-                        SymbolTable childSymbolTable = childSymbolTableItem.getClassSymbolTable();
-                        childSymbolTable.getItem(FieldSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true);
+        //nothing up the chain has the field, so only a subclass declaring it can conflict
+        if(!errored) {
+            List<String> declarers = fieldDeclarers.get(methodDeclaration.getMethodName().getName());
+            if(declarers != null) {
+                for(String declarer : declarers) {
+                    if(classHierarchy.isSecondNodeAncestorOf(declarer, currentClassName)) {
                         MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration);
                         methodDeclaration.addError(exception);
                         break;
-                    } catch (ItemNotFoundException ignored) {
                     }
                 }
             }
+        }
         return null;
     }
 
@@ -115,7 +135,7 @@ public class NameChecker extends Visitor<Void> {
         if(!fieldDeclaration.hasError()) {
             try {
                 SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-                classSymbolTable.getItem(FieldSymbolTableItem.START_KEY + fieldDeclaration.getVarDeclaration().getVarName().getName(), false);
+                classSymbolTable.getItem(FieldSymbolTableItem.keyOf(context, fieldDeclaration.getVarDeclaration().getVarName().getName()), false);
                 FieldRedefinition exception = new FieldRedefinition(fieldDeclaration);
                 fieldDeclaration.addError(exception);
             } catch (ItemNotFoundException ignored) {
@@ -21,29 +21,36 @@ import main.ast.types.list.ListType;
 import main.ast.types.single.BoolType;
 import main.ast.types.single.ClassType;
 import main.ast.types.single.IntType;
-import main.ast.types.single.StringType;
 import main.compileErrorException.typeErrors.*;
-import main.symbolTable.SymbolTable;
+import main.symbolTable.CompilationContext;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.items.FieldSymbolTableItem;
 import main.symbolTable.items.LocalVariableSymbolTableItem;
 import main.symbolTable.items.MethodSymbolTableItem;
-import main.symbolTable.utils.graph.Graph;
+import main.symbolTable.items.SymbolTableItem;
 import main.visitor.Visitor;
+import main.visitor.nameAnalyzer.IdentifierResolver;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 
 public class ExpressionTypeChecker extends Visitor<Type> {
-    private final Graph<String> classHierarchy;
+    private final CompilationContext context;
+    private final SubtypeRelation subtypeRelation;
+    private final TypeFactory types;
     private ClassDeclaration currentClassName;
     private MethodDeclaration currentMethodName;
-    private int err = 0;
+    private final Map<Type, Boolean> validity = new IdentityHashMap<>();
     private boolean lvalue = false;
     private boolean method_statement = false;
 
-    public ExpressionTypeChecker(Graph<String> classHierarchy) {
-        this.classHierarchy = classHierarchy;
+    public ExpressionTypeChecker(CompilationContext context, SubtypeRelation subtypeRelation, TypeFactory types) {
+        this.context = context;
+        this.subtypeRelation = subtypeRelation;
+        this.types = types;
     }
     public void setCurrentClassName(ClassDeclaration classDeclaration) {
         this.currentClassName = classDeclaration;
@@ -66,13 +73,13 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         switch (binary) {
             case add, sub, mult, div, mod -> {
                 if ((first instanceof IntType && second instanceof NoType) || (first instanceof NoType && second instanceof IntType) || (first instanceof NoType && second instanceof NoType))
-                    return new NoType();
+                    return types.noType();
                 if ((first instanceof IntType && second instanceof IntType))
-                    return new IntType();
+                    return types.intType();
                 else {
                     UnsupportedOperandType err = new UnsupportedOperandType(binaryExpression.getLine(), binary.toString());
                     binaryExpression.addError(err);
-                    return new NoType();
+                    return types.noType();
                 }
             }
             case assign -> {
@@ -80,54 +87,54 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                     binaryExpression.addError(new LeftSideNotLvalue(binaryExpression.getLine()));
                 }
                 if(first instanceof NoType)
-                    return new NoType();
+                    return types.noType();
                 if (!isSubType(second, first)) {
                     UnsupportedOperandType err = new UnsupportedOperandType(binaryExpression.getLine(), binary.toString());
                     binaryExpression.addError(err);
-                    return new NoType();
+                    return types.noType();
                 } else {
                     if (l)
-                        return new NoType();
+                        return types.noType();
                     return first;
                 }
             }
             case lt, gt -> {
                 if ((first instanceof IntType && second instanceof NoType) || (first instanceof NoType && second instanceof IntType) || (first instanceof NoType && second instanceof NoType))
-                    return new NoType();
+                    return types.noType();
                 if (first instanceof IntType && second instanceof IntType)
-                    return new BoolType();
+                    return types.boolType();
                 else {
                     UnsupportedOperandType err = new UnsupportedOperandType(binaryExpression.getLine(), binary.toString());
                     binaryExpression.addError(err);
-                    return new NoType();
+                    return types.noType();
                 }
             }
             case and, or -> {
                 if ((first instanceof BoolType && second instanceof NoType) || (first instanceof NoType && second instanceof BoolType) || (first instanceof NoType && second instanceof NoType))
-                    return new BoolType();
+                    return types.boolType();
                 if (first instanceof BoolType && second instanceof BoolType)
-                    return new BoolType();
+                    return types.boolType();
                 else {
                     UnsupportedOperandType err = new UnsupportedOperandType(binaryExpression.getLine(), binary.toString());
                     binaryExpression.addError(err);
-                    return new NoType();
+                    return types.noType();
                 }
             }
             case eq, neq -> {
                 if (first instanceof NoType || second instanceof NoType)
-                    return new NoType();
+                    return types.noType();
                 if((first instanceof NullType &&(second instanceof ClassType || second instanceof FptrType))||(second instanceof NullType &&(first instanceof ClassType || first instanceof FptrType)))
-                    return new BoolType();
+                    return types.boolType();
                 if (isSubType(first, second) && isSubType(second, first) && (!(first instanceof ListType) && !(second instanceof ListType))) {
-                    return new BoolType();
+                    return types.boolType();
                 } else {
                     UnsupportedOperandType err = new UnsupportedOperandType(binaryExpression.getLine(), binary.toString());
                     binaryExpression.addError(err);
-                    return new NoType();
+                    return types.noType();
                 }
             }
         }
-        return new BoolType();
+        return types.boolType();
     }
 
     @Override
@@ -140,37 +147,37 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         switch (operator) {
             case minus -> {
                 if (operand instanceof IntType)
-                    return new IntType();
+                    return types.intType();
                 if (operand instanceof NoType) {
                 } else {
                     UnsupportedOperandType err = new UnsupportedOperandType(unaryExpression.getLine(), operator.toString());
                     unaryExpression.addError(err);
                 }
-                return new NoType();
+                return types.noType();
             }
             case predec, preinc, postdec, postinc -> {
                 if (l) {
                     unaryExpression.addError(new IncDecOperandNotLvalue(unaryExpression.getLine(), operator.toString()));
                 }
                 if (operand instanceof IntType)
-                    return new IntType();
+                    return types.intType();
                 if (operand instanceof NoType)
-                    return new NoType();
+                    return types.noType();
                 else {
                     UnsupportedOperandType err = new UnsupportedOperandType(unaryExpression.getLine(), operator.toString());
                     unaryExpression.addError(err);
-                    return new NoType();
+                    return types.noType();
                 }
             }
             case not -> {
                 if (operand instanceof BoolType)
-                    return new BoolType();
+                    return types.boolType();
                 if (operand instanceof NoType) {
                 } else {
                     UnsupportedOperandType err = new UnsupportedOperandType(unaryExpression.getLine(), operator.toString());
                     unaryExpression.addError(err);
                 }
-                return new NoType();
+                return types.noType();
             }
         }
         return null;
@@ -181,95 +188,77 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         Type instance = objectOrListMemberAccess.getInstance().accept(this);
         String name = objectOrListMemberAccess.getMemberName().getName();
         if(instance instanceof NoType)
-            return new NoType();
+            return types.noType();
         if(instance instanceof ListType){
             ListType lst = (ListType) instance;
-            for(ListNameType el: lst.getElementsTypes()){
-                if(el.getName().getName().equals(name)) {
-                    Validate(el.getType());
-                    int e = this.err;
-                    this.err = 0;
-                    if (e > 0)
-                        return new NoType();
-                    return el.getType();
-                }
+            int index = lst.indexOf(name);
+            if(index >= 0){
+                ListNameType el = lst.getElementType(index);
+                if(!isValid(el.getType()))
+                    return types.noType();
+                return el.getType();
             }
             objectOrListMemberAccess.addError(new ListMemberNotFound(objectOrListMemberAccess.getLine(), name));
-            return new NoType();
+            return types.noType();
         }
         else if(instance instanceof ClassType){
             ClassType cls = (ClassType) instance;
+            ClassSymbolTableItem classSymbolTableItem;
             try {
-                ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + cls.getClassName().getName(), true);
-                FieldSymbolTableItem fieldSymbolTableItem = (FieldSymbolTableItem) classSymbolTableItem.getClassSymbolTable().getItem(FieldSymbolTableItem.START_KEY + name, true);
-                Validate(fieldSymbolTableItem.getType());
-                int e = this.err;
-                this.err = 0;
-                if (e > 0)
-                    return new NoType();
-                return fieldSymbolTableItem.getType();
-
+                classSymbolTableItem = (ClassSymbolTableItem) context.getRoot().getItem(ClassSymbolTableItem.keyOf(context, cls.getClassName().getName()), true);
             }
             catch(ItemNotFoundException exc){
-                try{
-                    ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + cls.getClassName().getName(), true);
-                    MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) classSymbolTableItem.getClassSymbolTable().getItem(MethodSymbolTableItem.START_KEY + name, true);
-                    this.lvalue = true;
-                    return new FptrType(methodSymbolTableItem.getArgTypes(), methodSymbolTableItem.getReturnType());
-                }
-                catch (ItemNotFoundException ex){
-                    if(cls.getClassName().getName().equals(name)) {
-                        try {
-                            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + cls.getClassName().getName(), true);
-                            ConstructorDeclaration constructor = classSymbolTableItem.getClassDeclaration().getConstructor();
-                            if (constructor != null) {
-                                ArrayList<Type> arr = new ArrayList<>();
-                                for(VarDeclaration var: constructor.getArgs())
-                                    arr.add(var.getType());
-                                return new FptrType(arr, new NullType());
-                            }
-                            else{
-                                ArrayList<Type> arr = new ArrayList<>();
-                                return new FptrType(arr, new NullType());
-                            }
-                        }catch (ItemNotFoundException ecx){ }
+                classSymbolTableItem = null;
+            }
+            SymbolTableItem member = (classSymbolTableItem == null) ? null : classSymbolTableItem.getMembers().get(name);
+            if(member instanceof FieldSymbolTableItem){
+                FieldSymbolTableItem fieldSymbolTableItem = (FieldSymbolTableItem) member;
+                if(!isValid(fieldSymbolTableItem.getType()))
+                    return types.noType();
+                return fieldSymbolTableItem.getType();
+            }
+            if(member instanceof MethodSymbolTableItem){
+                MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) member;
+                this.lvalue = true;
+                return types.methodType(methodSymbolTableItem);
+            }
+            if(cls.getClassName().getName().equals(name)) {
+                if(classSymbolTableItem != null) {
+                    ConstructorDeclaration constructor = classSymbolTableItem.getClassDeclaration().getConstructor();
+                    if (constructor != null) {
+                        return types.constructorType(constructor);
                     }
                     else{
-                        objectOrListMemberAccess.addError(new MemberNotAvailableInClass(objectOrListMemberAccess.getLine(), name, cls.getClassName().getName()));
-                        return new NoType();
+                        return types.fptrType(new ArrayList<>(), types.nullType());
                     }
                 }
             }
+            else{
+                objectOrListMemberAccess.addError(new MemberNotAvailableInClass(objectOrListMemberAccess.getLine(), name, cls.getClassName().getName()));
+                return types.noType();
+            }
         }
         else{
             objectOrListMemberAccess.addError(new MemberAccessOnNoneObjOrListType(objectOrListMemberAccess.getLine()));
-            return new NoType();
+            return types.noType();
         }
-        return new NoType();
+        return types.noType();
     }
 
     @Override
     public Type visit(Identifier identifier) {
-        try{
-            ClassSymbolTableItem childSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY +
-                    currentClassName.getClassName().getName(), true);
-            SymbolTable childSymbolTable = childSymbolTableItem.getClassSymbolTable();
-            MethodSymbolTableItem method = (MethodSymbolTableItem) childSymbolTable.getItem(MethodSymbolTableItem.START_KEY + currentMethodName.getMethodName().getName(), true);
-            SymbolTable methodSymbolTable = method.getMethodSymbolTable();
-            LocalVariableSymbolTableItem var = (LocalVariableSymbolTableItem) methodSymbolTable.getItem(LocalVariableSymbolTableItem.START_KEY + identifier.getName(), true);
-            Validate(var.getType());
-            int e = this.err;
-            this.err = 0;
-            if(e > 0)
-                return new NoType();
-            return var.getType();
+        LocalVariableSymbolTableItem var;
+        if(identifier.isResolved())
+            var = (LocalVariableSymbolTableItem) identifier.getSymbol();
+        else
+            var = IdentifierResolver.lookup(context, IdentifierResolver.methodSymbolTable(context, currentClassName, currentMethodName), identifier);
+        if(var == null) {
+            identifier.addError(new VarNotDeclared(identifier.getLine(), identifier.getName()));
+            return types.noType();
         }
-        catch(ItemNotFoundException ex){
-                identifier.addError(new VarNotDeclared(identifier.getLine(), identifier.getName()));
-                return new NoType();
-        }
-//        identifier.addError(new VarNotDeclared(identifier.getLine(), identifier.getName()));
-//        return new NoType();
+        if(!isValid(var.getType()))
+            return types.noType();
+        return var.getType();
     }
 
     @Override
@@ -284,59 +273,38 @@ public class ExpressionTypeChecker extends Visitor<Type> {
             not_int = true;
         }
         if(instance instanceof NoType)
-            return new NoType();
+            return types.noType();
         if(!(instance instanceof ListType)){
             listAccessByIndex.addError(new ListAccessByIndexOnNoneList(listAccessByIndex.getLine()));
-            return new NoType();
-        }
-        boolean multipleTypes = false;
-        Type last = null;
-        for(ListNameType arg: ((ListType) instance).getElementsTypes()){
-            if(last == null)
-                last = arg.getType();
-            else{
-                if(!isSubType(last, arg.getType())){
-                    multipleTypes = true;
-                    break;
-                }
-                last = arg.getType();
-            }
+            return types.noType();
         }
+        boolean multipleTypes = !subtypeRelation.isChainOfSubtypes((ListType) instance);
         if(multipleTypes && !(listAccessByIndex.getIndex() instanceof IntValue)){
             listAccessByIndex.addError(new CantUseExprAsIndexOfMultiTypeList(listAccessByIndex.getLine()));
-            return new NoType();
+            return types.noType();
         }
         if(not_int)
-            return new NoType();
+            return types.noType();
         else{
             ListType lst = (ListType) instance;
             int idx;
             if(listAccessByIndex.getIndex() instanceof IntValue){
                 idx = ((IntValue) listAccessByIndex.getIndex()).getConstant();
-                if(idx >= lst.getElementsTypes().size()){
-                    Validate(lst.getElementsTypes().get(0).getType());
-                    int e = this.err;
-                    this.err = 0;
-                    if(e > 0)
-                        return new NoType();
-                    return lst.getElementsTypes().get(0).getType();
+                if(idx >= lst.getSize()){
+                    if(!isValid(lst.getElementType(0).getType()))
+                        return types.noType();
+                    return lst.getElementType(0).getType();
                 }
                 else{
-                    Validate(lst.getElementsTypes().get(idx).getType());
-                    int e = this.err;
-                    this.err = 0;
-                    if(e > 0)
-                        return new NoType();
-                    return lst.getElementsTypes().get(idx).getType();
+                    if(!isValid(lst.getElementType(idx).getType()))
+                        return types.noType();
+                    return lst.getElementType(idx).getType();
                 }
             }
             else{
-                Validate(lst.getElementsTypes().get(0).getType());
-                int e = this.err;
-                this.err = 0;
-                if(e > 0)
-                    return new NoType();
-                return lst.getElementsTypes().get(0).getType();
+                if(!isValid(lst.getElementType(0).getType()))
+                    return types.noType();
+                return lst.getElementType(0).getType();
             }
         }
     }
@@ -354,9 +322,9 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                     arg.accept(this);
                 if(((FptrType)instance).getReturnType() instanceof NullType && !this.method_statement){
                     methodCall.addError(new CantUseValueOfVoidMethod(methodCall.getLine()));
-                    return new NoType();
+                    return types.noType();
                 }
-                return new NoType();
+                return types.noType();
             }
             int size = args.size();
             for(int i = 0; i < size; i++){
@@ -364,26 +332,23 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                     methodCall.addError( new MethodCallNotMatchDefinition(methodCall.getLine()));
                     if(((FptrType)instance).getReturnType() instanceof NullType && !this.method_statement){
                         methodCall.addError(new CantUseValueOfVoidMethod(methodCall.getLine()));
-                        return new NoType();
+                        return types.noType();
                     }
-                    return new NoType();
+                    return types.noType();
                 }
             }
-            Validate(((FptrType)instance).getReturnType());
-            int e = this.err;
-            this.err=0;
-            if(e > 0)
-                return new NoType();
+            if(!isValid(((FptrType)instance).getReturnType()))
+                return types.noType();
             if(((FptrType)instance).getReturnType() instanceof NullType && !this.method_statement){
                 methodCall.addError(new CantUseValueOfVoidMethod(methodCall.getLine()));
-                return new NoType();
+                return types.noType();
             }
             return ((FptrType)instance).getReturnType();
         }
         else{
             if(!(instance instanceof NoType))
                 methodCall.addError(new CallOnNoneFptrType(methodCall.getLine()));
-            return new NoType();
+            return types.noType();
         }
     }
 
@@ -393,23 +358,23 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         String className = newClassInstance.getClassType().getClassName().getName();
         ArrayList<Expression> args = newClassInstance.getArgs();
         try{
-            ClassSymbolTableItem classItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + className, true);
+            ClassSymbolTableItem classItem = (ClassSymbolTableItem) context.getRoot().getItem(ClassSymbolTableItem.keyOf(context, className), true);
             ConstructorDeclaration constructorDeclaration = classItem.getClassDeclaration().getConstructor();
             if(constructorDeclaration == null){
                 if (args.size() > 0){
                     newClassInstance.addError(new ConstructorArgsNotMatchDefinition(newClassInstance));
                 }
-                return new NoType();
+                return types.noType();
             }
             if(args.size() != constructorDeclaration.getArgs().size()){
                 newClassInstance.addError(new ConstructorArgsNotMatchDefinition(newClassInstance));
-                return new NoType();
+                return types.noType();
             }
             int i = 0;
             for(VarDeclaration arg: constructorDeclaration.getArgs()){
                 if(!isSubType(args.get(i).accept(this), arg.getType())){
                     newClassInstance.addError(new ConstructorArgsNotMatchDefinition(newClassInstance));
-                    return new NoType();
+                    return types.noType();
                 }
                 i++;
             }
@@ -417,17 +382,17 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         }
         catch (ItemNotFoundException exc){
             newClassInstance.addError(new ClassNotDeclared(newClassInstance.getLine(), className));
-            return new NoType();
+            return types.noType();
         }
     }
 
     @Override
     public Type visit(ThisClass thisClass) {
         if(currentClassName != null){
-            return new ClassType(currentClassName.getClassName());
+            return types.classType(currentClassName.getClassName());
         }
         else{
-            return new NoType();
+            return types.noType();
         }
     }
 
@@ -435,143 +400,92 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     public Type visit(ListValue listValue) {
         this.lvalue = true;
         ArrayList<Expression> elements = listValue.getElements();
-        ArrayList<ListNameType> el = new ArrayList<>();
-        if(elements.size() > 0){
-            Type last_type = elements.get(0).accept(this);
-            el.add(new ListNameType(last_type));
-            for(int i=1; i<elements.size(); i++){
-                Type new_type = elements.get(i).accept(this);
-                el.add(new ListNameType(new_type));
-                last_type = new_type;
-            }
-        }
-        return new ListType(el);
+        ArrayList<Type> el = new ArrayList<>();
+        for(Expression element: elements)
+            el.add(element.accept(this));
+        return types.listType(el);
     }
 
     @Override
     public Type visit(NullValue nullValue) {
         this.lvalue = true;
-        return new NullType();
+        return types.nullType();
     }
 
     @Override
     public Type visit(IntValue intValue) {
         this.lvalue = true;
-        return new IntType();
+        return types.intType();
     }
 
     @Override
     public Type visit(BoolValue boolValue) {
         this.lvalue = true;
-        return new BoolType();
+        return types.boolType();
     }
 
     @Override
     public Type visit(StringValue stringValue) {
         this.lvalue = true;
-        return new StringType();
+        return types.stringType();
     }
 
     public boolean isSubType(Type a, Type b){
-        if(a instanceof NoType){
-            return true;
-        }
-        if(b instanceof NoType){
-            return false;
-        }
-        if((a instanceof IntType && b instanceof IntType) || (a instanceof StringType && b instanceof StringType)
-                ||(a instanceof BoolType && b instanceof BoolType) || (a instanceof NullType && b instanceof NullType)){
-            return true;
-        }
-        if((a instanceof ClassType || a instanceof NullType) && (b instanceof ClassType || b instanceof NullType)){
-            if(a instanceof NullType)
-                return true;
-            if(b instanceof NullType)
-                return false;
-            ClassType classA = (ClassType) a;
-            ClassType classB = (ClassType) b;
-            return classHierarchy.isSecondNodeAncestorOf(classA.getClassName().getName(), classB.getClassName().getName());
-        }
-        if((a instanceof FptrType || a instanceof NullType) && (b instanceof FptrType || b instanceof NullType)){
-            if(a instanceof NullType)
-                return true;
-            if(b instanceof NullType)
-                return false;
-            FptrType fptrA = (FptrType) a;
-            FptrType fptrB = (FptrType) b;
-            if(!(isSubType(fptrA.getReturnType(), fptrB.getReturnType()))){
-                return false;
-            }
-            else{
-                ArrayList<Type> argsA = fptrA.getArgumentsTypes();
-                ArrayList<Type> argsB = fptrB.getArgumentsTypes();
-                if(argsA.size() != argsB.size()){
-                    return false;
-                }
-                int size = argsA.size();
-                for(int j = 0; j < size; j++){
-                    if(!isSubType(argsB.get(j), argsA.get(j))){
-                        return false;
-                    }
-                }
-                return true;
-            }
-        }
-        if(a instanceof ListType && b instanceof ListType){
-            ListType lstA = (ListType) a;
-            ListType lstB = (ListType) b;
-            ArrayList<ListNameType> elementsTypesA = lstA.getElementsTypes();
-            ArrayList<ListNameType> elementsTypesB = lstB.getElementsTypes();
-            if(elementsTypesA.size() != elementsTypesB.size()){
-                return false;
-            }
-            int size = elementsTypesA.size();
-            for(int i = 0; i<size; i++){
-                if(!isSubType(elementsTypesA.get(i).getType(), elementsTypesB.get(i).getType())) {
-                    return false;
-                }
-            }
+        return subtypeRelation.isSubType(a, b);
+    }
+    //whether every class a type mentions is declared and its lists are non-empty with distinct names. the
+    //classes do not change while checking, so the verdict is worked out once per type instance
+    public boolean isValid(Type type){
+        if(!(type instanceof ClassType || type instanceof ListType || type instanceof FptrType))
             return true;
+        Boolean known = validity.get(type);
+        if(known == null){
+            known = checkValid(type);
+            validity.put(type, known);
         }
-        return false;
-        }
-    public void Validate(Type type){
+        return known;
+    }
+
+    private boolean checkValid(Type type){
         if(type instanceof ClassType){
             ClassType ctype = (ClassType)type;
             try{
-                SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + ctype.getClassName().getName(), true);
+                context.getRoot().getItem(ClassSymbolTableItem.keyOf(context, ctype.getClassName().getName()), true);
             }
             catch (ItemNotFoundException exc){
-                this.err++;
-                return;
+                return false;
             }
         }
         else if(type instanceof ListType){
             ListType ltype = (ListType) type;
-            if(ltype.getElementsTypes().size() == 0){
-                this.err++;
-                return;
+            if(ltype.getSize() == 0){
+                return false;
             }
-            int size = ltype.getElementsTypes().size();
-            ArrayList<ListNameType> arr = ltype.getElementsTypes();
-            ArrayList<String>ids = new ArrayList<>();
-            boolean same = false;
-            for(int i = 0; i < size; i++){
-                if(!arr.get(i).getName().getName().equals("")){
-                    if(ids.contains(arr.get(i).getName().getName()) && !same){
-                        this.err++;
-                    }
-                    ids.add(arr.get(i).getName().getName());
+            if(ltype.isRepeated()){
+                //every entry is the same element, a name would be repeated
+                ListNameType element = ltype.getRepeatedElement();
+                if(!element.getName().getName().equals("") && ltype.getSize() > 1)
+                    return false;
+                return isValid(element.getType());
+            }
+            HashSet<String> ids = new HashSet<>();
+            for(int i = 0; i < ltype.getSize(); i++){
+                ListNameType element = ltype.getElementType(i);
+                if(!element.getName().getName().equals("") && !ids.add(element.getName().getName())){
+                    return false;
                 }
-                Validate(arr.get(i).getType());
+                if(!isValid(element.getType()))
+                    return false;
             }
         }
         else if(type instanceof FptrType){
             FptrType fptrType = (FptrType)type;
             for(Type arg: fptrType.getArgumentsTypes()){
-                Validate(arg);
+                if(!isValid(arg))
+                    return false;
             }
-            Validate(fptrType.getReturnType());
+            return isValid(fptrType.getReturnType());
         }
+        return true;
     }
 }
@@ -0,0 +1,291 @@
+package main.visitor.typeChecker;
+
+import main.ast.types.NoType;
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.BoolType;
+import main.ast.types.single.ClassType;
+import main.ast.types.single.IntType;
+import main.ast.types.single.StringType;
+import main.symbolTable.utils.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+//the subtype rules of both type checkers, one instance per compilation. answers for list and function
+//pointer pairs are cached by the canonical ids of the two types, so structurally equal types share entries
+public class SubtypeRelation {
+    private static final int NO_TYPE = 1;
+    private static final int INT = 2;
+    private static final int BOOL = 3;
+    private static final int STRING = 4;
+    private static final int NULL = 5;
+    private static final int LIST = 6;
+    private static final int FPTR = 7;
+    private static final int REPEATED_LIST = 8;
+    private static final int FIRST_ID = 9;
+
+    private final Graph<String> classHierarchy;
+    //types are not changed once built, so an instance keeps the id it got first
+    private final Map<Type, Integer> canonicalIds = new IdentityHashMap<>();
+    private final Map<Shape, Integer> shapes = new HashMap<>();
+    private final Map<String, Integer> classIds = new HashMap<>();
+    private int nextId = FIRST_ID;
+    private final PairCache cache = new PairCache();
+    private final Map<ListType, Boolean> chains = new IdentityHashMap<>();
+    private final Map<ListType, Boolean> firstBelowAll = new IdentityHashMap<>();
+    private long hits = 0;
+    private long misses = 0;
+
+    public SubtypeRelation(Graph<String> classHierarchy) {
+        this.classHierarchy = classHierarchy;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public boolean isSubType(Type a, Type b) {
+        //the relation is reflexive, and types from the factory are equal exactly when they are the same instance
+        if(a == b && a != null)
+            return true;
+        if((a instanceof FptrType && b instanceof FptrType) || (a instanceof ListType && b instanceof ListType)) {
+            long key = ((long) canonicalId(a) << 32) | canonicalId(b);
+            int cached = cache.get(key);
+            if(cached != PairCache.ABSENT) {
+                hits++;
+                return cached == PairCache.TRUE;
+            }
+            misses++;
+            boolean result = compute(a, b);
+            cache.put(key, result);
+            return result;
+        }
+        return compute(a, b);
+    }
+
+    //whether each entry is a subtype of the next one, what indexing a list with an expression needs
+    public boolean isChainOfSubtypes(ListType list) {
+        if(list.isHomogeneous())
+            return true;
+        Boolean known = chains.get(list);
+        if(known == null) {
+            known = true;
+            for(int i = 1; i < list.getSize() && known; i++)
+                known = isSubType(list.getElementType(i - 1).getType(), list.getElementType(i).getType());
+            chains.put(list, known);
+        }
+        return known;
+    }
+
+    //whether the first entry is a subtype of every other one, what a foreach over the list needs
+    public boolean isFirstSubtypeOfAll(ListType list) {
+        if(list.isHomogeneous())
+            return true;
+        Boolean known = firstBelowAll.get(list);
+        if(known == null) {
+            known = true;
+            for(int i = 1; i < list.getSize() && known; i++)
+                known = isSubType(list.getElementType(0).getType(), list.getElementType(i).getType());
+            firstBelowAll.put(list, known);
+        }
+        return known;
+    }
+
+    private boolean compute(Type a, Type b) {
+        if(a instanceof NoType){
+            return true;
+        }
+        if(b instanceof NoType){
+            return false;
+        }
+        if((a instanceof IntType && b instanceof IntType) || (a instanceof StringType && b instanceof StringType)
+                ||(a instanceof BoolType && b instanceof BoolType) || (a instanceof NullType && b instanceof NullType)){
+            return true;
+        }
+        if((a instanceof ClassType || a instanceof NullType) && (b instanceof ClassType || b instanceof NullType)){
+            if(a instanceof NullType)
+                return true;
+            if(b instanceof NullType)
+                return false;
+            ClassType classA = (ClassType) a;
+            ClassType classB = (ClassType) b;
+            return classHierarchy.isSecondNodeAncestorOf(classA.getClassName().getName(), classB.getClassName().getName());
+        }
+        if((a instanceof FptrType || a instanceof NullType) && (b instanceof FptrType || b instanceof NullType)){
+            if(a instanceof NullType)
+                return true;
+            if(b instanceof NullType)
+                return false;
+            FptrType fptrA = (FptrType) a;
+            FptrType fptrB = (FptrType) b;
+            if(!(isSubType(fptrA.getReturnType(), fptrB.getReturnType()))){
+                return false;
+            }
+            ArrayList<Type> argsA = fptrA.getArgumentsTypes();
+            ArrayList<Type> argsB = fptrB.getArgumentsTypes();
+            if(argsA.size() != argsB.size()){
+                return false;
+            }
+            int size = argsA.size();
+            for(int j = 0; j < size; j++){
+                if(!isSubType(argsB.get(j), argsA.get(j))){
+                    return false;
+                }
+            }
+            return true;
+        }
+        if(a instanceof ListType && b instanceof ListType){
+            ListType listA = (ListType) a;
+            ListType listB = (ListType) b;
+            if(listA.getSize() != listB.getSize()){
+                return false;
+            }
+            int size = listA.getSize();
+            //two repeated lists pair the same two elements at every index
+            if(listA.isRepeated() && listB.isRepeated() && size > 0)
+                size = 1;
+            for(int i = 0; i<size; i++){
+                if(!isSubType(listA.getElementType(i).getType(), listB.getElementType(i).getType())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    //equal ids mean the subtype rules cannot tell the types apart; list element names do not matter to them
+    private int canonicalId(Type type) {
+        if(type == null)
+            return 0;
+        if(type instanceof NoType)
+            return NO_TYPE;
+        if(type instanceof IntType)
+            return INT;
+        if(type instanceof BoolType)
+            return BOOL;
+        if(type instanceof StringType)
+            return STRING;
+        if(type instanceof NullType)
+            return NULL;
+        Integer known = canonicalIds.get(type);
+        if(known != null)
+            return known;
+        Integer id;
+        if(type instanceof ClassType) {
+            id = classIds.computeIfAbsent(((ClassType) type).getClassName().getName(), name -> nextId++);
+        } else if(type instanceof ListType && ((ListType) type).isRepeated()) {
+            ListType list = (ListType) type;
+            id = internShape(new int[]{REPEATED_LIST, list.getSize(), canonicalId(list.getRepeatedElement().getType())});
+        } else if(type instanceof ListType) {
+            ListType list = (ListType) type;
+            int[] parts = new int[list.getSize() + 1];
+            parts[0] = LIST;
+            for(int i = 0; i < list.getSize(); i++)
+                parts[i + 1] = canonicalId(list.getElementType(i).getType());
+            id = internShape(parts);
+        } else if(type instanceof FptrType) {
+            ArrayList<Type> arguments = ((FptrType) type).getArgumentsTypes();
+            int[] parts = new int[arguments.size() + 2];
+            parts[0] = FPTR;
+            parts[1] = canonicalId(((FptrType) type).getReturnType());
+            for(int i = 0; i < arguments.size(); i++)
+                parts[i + 2] = canonicalId(arguments.get(i));
+            id = internShape(parts);
+        } else {
+            id = nextId++;
+        }
+        canonicalIds.put(type, id);
+        return id;
+    }
+
+    private int internShape(int[] parts) {
+        Shape shape = new Shape(parts);
+        Integer id = shapes.get(shape);
+        if(id == null) {
+            id = nextId++;
+            shapes.put(shape, id);
+        }
+        return id;
+    }
+
+    private static final class Shape {
+        private final int[] parts;
+        private final int hash;
+
+        Shape(int[] parts) {
+            this.parts = parts;
+            this.hash = Arrays.hashCode(parts);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Shape && Arrays.equals(parts, ((Shape) other).parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    //open addressing from a pair of ids to a verdict, so a cache probe allocates nothing
+    private static final class PairCache {
+        static final int ABSENT = 0;
+        static final int FALSE = 1;
+        static final int TRUE = 2;
+
+        private long[] keys = new long[256];
+        private byte[] values = new byte[256];
+        private int size = 0;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for(int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                if(values[slot] == ABSENT)
+                    return ABSENT;
+                if(keys[slot] == key)
+                    return values[slot];
+            }
+        }
+
+        void put(long key, boolean value) {
+            if(2 * (size + 1) > keys.length)
+                grow();
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while(values[slot] != ABSENT && keys[slot] != key)
+                slot = (slot + 1) & mask;
+            if(values[slot] == ABSENT)
+                size++;
+            keys[slot] = key;
+            values[slot] = (byte) (value ? TRUE : FALSE);
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            byte[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new byte[oldValues.length * 2];
+            size = 0;
+            for(int i = 0; i < oldKeys.length; i++)
+                if(oldValues[i] != ABSENT)
+                    put(oldKeys[i], oldValues[i] == TRUE);
+        }
+
+        private static int hash(long key) {
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32));
+        }
+    }
+}
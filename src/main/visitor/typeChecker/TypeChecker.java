@@ -26,7 +26,8 @@ import main.ast.types.single.ClassType;
 import main.ast.types.single.IntType;
 import main.ast.types.single.StringType;
 import main.compileErrorException.typeErrors.*;
-import main.symbolTable.SymbolTable;
+import main.symbolTable.CompilationContext;
+import main.symbolTable.MemberTable;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.*;
 import main.symbolTable.utils.graph.Graph;
@@ -37,15 +38,24 @@ import javax.xml.validation.Validator;
 import java.util.ArrayList;
 
 public class TypeChecker extends Visitor<Void> {
+    private final CompilationContext context;
     private final Graph<String> classHierarchy;
+    private final SubtypeRelation subtypeRelation;
+    private final TypeFactory types = new TypeFactory();
     private final ExpressionTypeChecker expressionTypeChecker;
     private ClassDeclaration currentClassName;
     private MethodDeclaration currentMethodName;
     private Integer loops = 0;
 
-    public TypeChecker(Graph<String> classHierarchy) {
-        this.classHierarchy = classHierarchy;
-        this.expressionTypeChecker = new ExpressionTypeChecker(classHierarchy);
+    public TypeChecker(CompilationContext context) {
+        this.context = context;
+        this.classHierarchy = context.getClassHierarchy();
+        this.subtypeRelation = new SubtypeRelation(classHierarchy);
+        this.expressionTypeChecker = new ExpressionTypeChecker(context, subtypeRelation, types);
+    }
+
+    public SubtypeRelation getSubtypeRelation() {
+        return subtypeRelation;
     }
 
     @Override
@@ -78,8 +88,7 @@ public class TypeChecker extends Visitor<Void> {
                 classDeclaration.addError(new MainClassCantExtend(classDeclaration.getLine()));
             }
             try {
-                ClassSymbolTableItem classItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY
-                        + parent, true);
+                ClassSymbolTableItem classItem = (ClassSymbolTableItem) context.getRoot().getItem(ClassSymbolTableItem.keyOf(context, parent), true);
             }
             catch (ItemNotFoundException ignored) {
                 classDeclaration.addError(new ClassNotDeclared(classDeclaration.getLine(), parent));
@@ -148,7 +157,8 @@ public class TypeChecker extends Visitor<Void> {
         if(!has_return && !(methodDeclaration.getReturnType() instanceof NullType)){
             methodDeclaration.addError(new MissingReturnStatement(methodDeclaration));
         }
-        Validate(methodDeclaration, methodDeclaration.getReturnType());
+        if(!expressionTypeChecker.isValid(methodDeclaration.getReturnType()))
+            Validate(methodDeclaration, methodDeclaration.getReturnType());
         return null;
     }
 
@@ -162,7 +172,9 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(VarDeclaration varDeclaration) {
-        varDeclaration = CheckVarDec(varDeclaration, varDeclaration.getType());
+        //the walk only reports, so a type the expression checker already knows to be valid needs none
+        if(!expressionTypeChecker.isValid(varDeclaration.getType()))
+            varDeclaration = CheckVarDec(varDeclaration, varDeclaration.getType());
         return null;
     }
 
@@ -284,23 +296,18 @@ public class TypeChecker extends Visitor<Void> {
         else{
             Type varType = foreachStmt.getVariable().accept(expressionTypeChecker);
             ListType lst = (ListType) listType;
-            ArrayList<ListNameType> arr = lst.getElementsTypes();
-            if(arr.size() > 0){
-                Type last = arr.get(0).getType();
-                int size = arr.size();
-                for(int i = 1; i < size; i++){
-                    Type curr = arr.get(i).getType();
-                    if(!isSubType(last, curr)){
-                        foreachStmt.addError(new ForeachListElementsNotSameType(foreachStmt.getLine()));
-                        if(!isSubType(varType, arr.get(0).getType())){
-                            foreachStmt.addError(new ForeachVarNotMatchList(foreachStmt));
-                        }
-                        foreachStmt.getBody().accept(this);
-                        loops -= 1;
-                        return null;
+            int size = lst.getSize();
+            if(size > 0){
+                if(!subtypeRelation.isFirstSubtypeOfAll(lst)){
+                    foreachStmt.addError(new ForeachListElementsNotSameType(foreachStmt.getLine()));
+                    if(!isSubType(varType, lst.getElementType(0).getType())){
+                        foreachStmt.addError(new ForeachVarNotMatchList(foreachStmt));
                     }
+                    foreachStmt.getBody().accept(this);
+                    loops -= 1;
+                    return null;
                 }
-                if(!isSubType(varType, arr.get(0).getType())){
+                if(!isSubType(varType, lst.getElementType(0).getType())){
                     foreachStmt.addError(new ForeachVarNotMatchList(foreachStmt));
                 }
             }
@@ -330,101 +337,63 @@ public class TypeChecker extends Visitor<Void> {
         return null;
     }
     public boolean isSubType(Type a, Type b){
-        if(a instanceof NoType){
-            return true;
-        }
-        if(b instanceof NoType){
-            return false;
-        }
-        if((a instanceof IntType && b instanceof IntType) || (a instanceof StringType && b instanceof StringType)
-                ||(a instanceof BoolType && b instanceof BoolType) || (a instanceof NullType && b instanceof NullType)){
-            return true;
-        }
-        if((a instanceof ClassType || a instanceof NullType) && b instanceof ClassType){
-            if(a instanceof NullType)
-                return true;
-            ClassType classA = (ClassType) a;
-            ClassType classB = (ClassType) b;
-            return classHierarchy.isSecondNodeAncestorOf(classA.getClassName().getName(), classB.getClassName().getName());
-        }
-        if((a instanceof FptrType || a instanceof NullType) && b instanceof FptrType){
-            if(a instanceof NullType)
-                return true;
-            FptrType fptrA = (FptrType) a;
-            FptrType fptrB = (FptrType) b;
-            if(!(isSubType(fptrA.getReturnType(), fptrB.getReturnType()))){
-                return false;
-            }
-            else{
-                ArrayList<Type> argsA = fptrA.getArgumentsTypes();
-                ArrayList<Type> argsB = fptrB.getArgumentsTypes();
-                if(argsA.size() != argsB.size()){
-                    return false;
-                }
-                int size = argsA.size();
-                for(int j = 0; j < size; j++){
-                    if(!isSubType(argsB.get(j), argsA.get(j))){
-                        return false;
-                    }
-                }
-                return true;
-            }
-        }
-        if(a instanceof ListType && b instanceof ListType){
-            ListType lstA = (ListType) a;
-            ListType lstB = (ListType) b;
-            ArrayList<ListNameType> elementsTypesA = lstA.getElementsTypes();
-            ArrayList<ListNameType> elementsTypesB = lstB.getElementsTypes();
-            if(elementsTypesA.size() != elementsTypesB.size()){
-                return false;
-            }
-            int size = elementsTypesA.size();
-            for(int i = 0; i<size; i++){
-                if(!isSubType(elementsTypesA.get(i).getType(), elementsTypesB.get(i).getType())) {
-                    return false;
-                }
-            }
-            return true;
-        }
-        return false;
+        return subtypeRelation.isSubType(a, b);
     }
 
     public VarDeclaration CheckVarDec(VarDeclaration varDeclaration, Type varDeclarationType){
         if(varDeclarationType instanceof ClassType){
             ClassType ctype = (ClassType)varDeclarationType;
             try{
-                SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + ctype.getClassName().getName(), true);
+                context.getRoot().getItem(ClassSymbolTableItem.keyOf(context, ctype.getClassName().getName()), true);
             }
             catch (ItemNotFoundException exc){
                 varDeclaration.addError(new ClassNotDeclared(varDeclaration.getLine(), ctype.getClassName().getName()));
-                varDeclaration.setType(new NoType());
+                varDeclaration.setType(types.noType());
 //                change_var_to_NoType(varDeclaration);
                 return varDeclaration;
             }
         }
         else if(varDeclarationType instanceof ListType){
             ListType ltype = (ListType) varDeclarationType;
-            if(ltype.getElementsTypes().size() == 0){
+            if(ltype.getSize() == 0){
                 varDeclaration.addError(new CannotHaveEmptyList(varDeclaration.getLine()));
-                varDeclaration.setType(new NoType());
+                varDeclaration.setType(types.noType());
 //                change_var_to_NoType(varDeclaration);
                 return varDeclaration;
             }
-            int size = ltype.getElementsTypes().size();
-            ArrayList<ListNameType> arr = ltype.getElementsTypes();
+            if(ltype.isRepeated()){
+                //every entry is the same element: check it once, and only walk the other entries when it
+                //reported something, since each of them reports the same again. so a valid element costs the
+                //same for any size, while an invalid one is still checked, and reported, size times: the
+                //diagnostics are kept as they were, at O(size) for list(10000000 # Undecl)
+                ListNameType element = ltype.getRepeatedElement();
+                int before = varDeclaration.getErrorCount();
+                varDeclaration = CheckVarDec(varDeclaration, element.getType());
+                boolean reported = varDeclaration.getErrorCount() != before;
+                if(!element.getName().getName().equals("") && ltype.getSize() > 1){
+                    varDeclaration.addError(new DuplicateListId(varDeclaration.getLine()));
+                    varDeclaration.setType(types.noType());
+                }
+                if(reported)
+                    for(int i = 1; i < ltype.getSize(); i++)
+                        varDeclaration = CheckVarDec(varDeclaration, element.getType());
+                return varDeclaration;
+            }
+            int size = ltype.getSize();
             ArrayList<String>ids = new ArrayList<>();
             boolean same = false;
             for(int i = 0; i < size; i++){
-                if(!arr.get(i).getName().getName().equals("")){
-                    if(ids.contains(arr.get(i).getName().getName()) && !same){
+                ListNameType element = ltype.getElementType(i);
+                if(!element.getName().getName().equals("")){
+                    if(ids.contains(element.getName().getName()) && !same){
                         varDeclaration.addError(new DuplicateListId(varDeclaration.getLine()));
-                        varDeclaration.setType(new NoType());
+                        varDeclaration.setType(types.noType());
 //                        change_var_to_NoType(varDeclaration);
                         same = true;
                     }
-                    ids.add(arr.get(i).getName().getName());
+                    ids.add(element.getName().getName());
                 }
-                varDeclaration = CheckVarDec(varDeclaration, arr.get(i).getType());
+                varDeclaration = CheckVarDec(varDeclaration, element.getType());
             }
         }
         else if(varDeclarationType instanceof FptrType){
@@ -438,27 +407,28 @@ public class TypeChecker extends Visitor<Void> {
     }
     public void change_var_to_NoType(VarDeclaration varDeclaration){
         try {
-            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + currentClassName.getClassName().getName(), true);
-            FieldSymbolTableItem fieldSymbolTableItem = (FieldSymbolTableItem)classSymbolTableItem.getClassSymbolTable().getItem(FieldSymbolTableItem.START_KEY + varDeclaration.getVarName().getName(), true);
-            fieldSymbolTableItem.setType(new NoType());
-        }
-        catch(ItemNotFoundException exc){
-            try{
-                ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + currentClassName.getClassName().getName(), true);
-                MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) classSymbolTableItem.getClassSymbolTable().getItem(MethodSymbolTableItem.START_KEY + currentMethodName.getMethodName().getName(), true);
-                LocalVariableSymbolTableItem localVariableSymbolTableItem = (LocalVariableSymbolTableItem) methodSymbolTableItem.getMethodSymbolTable().getItem(LocalVariableSymbolTableItem.START_KEY + varDeclaration.getVarName(), true);
-                localVariableSymbolTableItem.setType(new NoType());
+            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) context.getRoot().getItem(ClassSymbolTableItem.keyOf(context, currentClassName.getClassName().getName()), true);
+            MemberTable members = classSymbolTableItem.getMembers();
+            FieldSymbolTableItem fieldSymbolTableItem = members.getField(varDeclaration.getVarName().getName());
+            if(fieldSymbolTableItem != null) {
+                fieldSymbolTableItem.setType(types.noType());
+                return;
             }
-            catch(ItemNotFoundException ex){
-
+            MethodSymbolTableItem methodSymbolTableItem = members.getMethod(currentMethodName.getMethodName().getName());
+            if(methodSymbolTableItem != null) {
+                LocalVariableSymbolTableItem localVariableSymbolTableItem = (LocalVariableSymbolTableItem) methodSymbolTableItem.getMethodSymbolTable().getItem(LocalVariableSymbolTableItem.keyOf(context, varDeclaration.getVarName().toString()), true);
+                localVariableSymbolTableItem.setType(types.noType());
             }
         }
+        catch(ItemNotFoundException ignored){
+
+        }
     }
     public MethodDeclaration Validate(MethodDeclaration methodDeclaration, Type varDeclarationType){
         if(varDeclarationType instanceof ClassType){
             ClassType ctype = (ClassType)varDeclarationType;
             try{
-                SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + ctype.getClassName().getName(), true);
+                context.getRoot().getItem(ClassSymbolTableItem.keyOf(context, ctype.getClassName().getName()), true);
             }
             catch (ItemNotFoundException exc){
                 methodDeclaration.addError(new ClassNotDeclared(methodDeclaration.getLine(), ctype.getClassName().getName()));
@@ -468,25 +438,38 @@ public class TypeChecker extends Visitor<Void> {
         }
         else if(varDeclarationType instanceof ListType){
             ListType ltype = (ListType) varDeclarationType;
-            if(ltype.getElementsTypes().size() == 0){
+            if(ltype.getSize() == 0){
                 methodDeclaration.addError(new CannotHaveEmptyList(methodDeclaration.getLine()));
 //                change_var_to_NoType(varDeclaration);
                 return methodDeclaration;
             }
-            int size = ltype.getElementsTypes().size();
-            ArrayList<ListNameType> arr = ltype.getElementsTypes();
+            if(ltype.isRepeated()){
+                //as in CheckVarDec, only an element that reported is checked once per entry
+                ListNameType element = ltype.getRepeatedElement();
+                int before = methodDeclaration.getErrorCount();
+                methodDeclaration = Validate(methodDeclaration, element.getType());
+                boolean reported = methodDeclaration.getErrorCount() != before;
+                if(!element.getName().getName().equals("") && ltype.getSize() > 1)
+                    methodDeclaration.addError(new DuplicateListId(methodDeclaration.getLine()));
+                if(reported)
+                    for(int i = 1; i < ltype.getSize(); i++)
+                        methodDeclaration = Validate(methodDeclaration, element.getType());
+                return methodDeclaration;
+            }
+            int size = ltype.getSize();
             ArrayList<String>ids = new ArrayList<>();
             boolean same = false;
             for(int i = 0; i < size; i++){
-                if(!arr.get(i).getName().getName().equals("")){
-                    if(ids.contains(arr.get(i).getName().getName()) && !same){
+                ListNameType element = ltype.getElementType(i);
+                if(!element.getName().getName().equals("")){
+                    if(ids.contains(element.getName().getName()) && !same){
                         methodDeclaration.addError(new DuplicateListId(methodDeclaration.getLine()));
 //                        change_var_to_NoType(varDeclaration);
                         same = true;
                     }
-                    ids.add(arr.get(i).getName().getName());
+                    ids.add(element.getName().getName());
                 }
-                methodDeclaration = Validate(methodDeclaration, arr.get(i).getType());
+                methodDeclaration = Validate(methodDeclaration, element.getType());
             }
         }
         else if(varDeclarationType instanceof FptrType){
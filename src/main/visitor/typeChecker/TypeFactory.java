@@ -0,0 +1,208 @@
+package main.visitor.typeChecker;
+
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.Identifier;
+import main.ast.types.NoType;
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListNameType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.BoolType;
+import main.ast.types.single.ClassType;
+import main.ast.types.single.IntType;
+import main.ast.types.single.StringType;
+import main.symbolTable.items.MethodSymbolTableItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+//hands out the types the checkers build, one instance per compilation. primitives are shared singletons
+//and class, list and function pointer types are interned by structure, so two types the checkers build
+//alike are the same instance. the types handed out are shared and must not be changed
+public class TypeFactory {
+    private static final NoType NO_TYPE = new NoType();
+    private static final IntType INT_TYPE = new IntType();
+    private static final BoolType BOOL_TYPE = new BoolType();
+    private static final StringType STRING_TYPE = new StringType();
+    private static final NullType NULL_TYPE = new NullType();
+
+    private static final Integer LIST = 0;
+    private static final Integer FPTR = 1;
+    private static final Integer REPEATED_LIST = 2;
+
+    private final Map<String, ClassType> classTypes = new HashMap<>();
+    private final Map<Shape, Type> shapes = new HashMap<>();
+    //declared types are walked once, later lookups of the same instance are a single probe
+    private final Map<Type, Type> canonicalTypes = new IdentityHashMap<>();
+    private final Map<Object, FptrType> signatures = new IdentityHashMap<>();
+
+    public NoType noType() {
+        return NO_TYPE;
+    }
+
+    public IntType intType() {
+        return INT_TYPE;
+    }
+
+    public BoolType boolType() {
+        return BOOL_TYPE;
+    }
+
+    public StringType stringType() {
+        return STRING_TYPE;
+    }
+
+    public NullType nullType() {
+        return NULL_TYPE;
+    }
+
+    public ClassType classType(Identifier className) {
+        return classTypes.computeIfAbsent(className.getName(), name -> new ClassType(className));
+    }
+
+    //a list of unnamed elements, the way list literals are typed
+    public ListType listType(List<Type> elementTypes) {
+        Object[] parts = new Object[2 * elementTypes.size() + 1];
+        parts[0] = LIST;
+        for(int i = 0; i < elementTypes.size(); i++) {
+            parts[2 * i + 1] = "";
+            parts[2 * i + 2] = canonical(elementTypes.get(i));
+        }
+        return (ListType) intern(parts);
+    }
+
+    public FptrType fptrType(List<Type> argumentsTypes, Type returnType) {
+        Object[] parts = new Object[argumentsTypes.size() + 2];
+        parts[0] = FPTR;
+        parts[1] = canonical(returnType);
+        for(int i = 0; i < argumentsTypes.size(); i++)
+            parts[i + 2] = canonical(argumentsTypes.get(i));
+        return (FptrType) intern(parts);
+    }
+
+    //the type of a method used as a value
+    public FptrType methodType(MethodSymbolTableItem method) {
+        FptrType type = signatures.get(method);
+        if(type == null) {
+            type = fptrType(method.getArgTypes(), method.getReturnType());
+            signatures.put(method, type);
+        }
+        return type;
+    }
+
+    //the type of a constructor used as a value, it returns nothing
+    public FptrType constructorType(ConstructorDeclaration constructor) {
+        FptrType type = signatures.get(constructor);
+        if(type == null) {
+            ArrayList<Type> arguments = new ArrayList<>();
+            for(VarDeclaration var : constructor.getArgs())
+                arguments.add(var.getType());
+            type = fptrType(arguments, NULL_TYPE);
+            signatures.put(constructor, type);
+        }
+        return type;
+    }
+
+    //the interned instance with the same structure as type; list element names are part of the structure
+    public Type canonical(Type type) {
+        if(type == null)
+            return null;
+        if(type instanceof NoType)
+            return NO_TYPE;
+        if(type instanceof IntType)
+            return INT_TYPE;
+        if(type instanceof BoolType)
+            return BOOL_TYPE;
+        if(type instanceof StringType)
+            return STRING_TYPE;
+        if(type instanceof NullType)
+            return NULL_TYPE;
+        if(type instanceof ClassType)
+            return classType(((ClassType) type).getClassName());
+        Type known = canonicalTypes.get(type);
+        if(known != null)
+            return known;
+        Type result;
+        if(type instanceof ListType && ((ListType) type).isRepeated()) {
+            ListNameType element = ((ListType) type).getRepeatedElement();
+            result = intern(new Object[]{REPEATED_LIST, ((ListType) type).getSize(), element.getName().getName(), canonical(element.getType())}, (ListType) type);
+        } else if(type instanceof ListType) {
+            ListType list = (ListType) type;
+            Object[] parts = new Object[2 * list.getSize() + 1];
+            parts[0] = LIST;
+            for(int i = 0; i < list.getSize(); i++) {
+                parts[2 * i + 1] = list.getElementType(i).getName().getName();
+                parts[2 * i + 2] = canonical(list.getElementType(i).getType());
+            }
+            result = intern(parts, (ListType) type);
+        } else if(type instanceof FptrType) {
+            FptrType fptrType = (FptrType) type;
+            result = fptrType(fptrType.getArgumentsTypes(), fptrType.getReturnType());
+        } else {
+            result = type;
+        }
+        canonicalTypes.put(type, result);
+        return result;
+    }
+
+    private Type intern(Object[] parts) {
+        return intern(parts, null);
+    }
+
+    //parts are a kind tag followed by canonical types and, for lists, element names; a repeated list
+    //also carries its count
+    private Type intern(Object[] parts, ListType original) {
+        Shape shape = new Shape(parts);
+        Type type = shapes.get(shape);
+        if(type == null) {
+            type = build(parts, original);
+            shapes.put(shape, type);
+        }
+        return type;
+    }
+
+    private Type build(Object[] parts, ListType original) {
+        if(FPTR.equals(parts[0])) {
+            ArrayList<Type> arguments = new ArrayList<>();
+            for(int i = 2; i < parts.length; i++)
+                arguments.add((Type) parts[i]);
+            return new FptrType(arguments, (Type) parts[1]);
+        }
+        if(REPEATED_LIST.equals(parts[0]))
+            return new ListType((Integer) parts[1], new ListNameType(original.getRepeatedElement().getName(), (Type) parts[3]));
+        ArrayList<ListNameType> elements = new ArrayList<>();
+        for(int i = 1; i < parts.length; i += 2) {
+            //a declared list keeps its own element names, so diagnostics still point at them
+            Identifier name = (original != null) ? original.getElementType(i / 2).getName() : new Identifier("");
+            elements.add(new ListNameType(name, (Type) parts[i + 1]));
+        }
+        return new ListType(elements);
+    }
+
+    //canonical types compare by reference, names by value
+    private static final class Shape {
+        private final Object[] parts;
+        private final int hash;
+
+        Shape(Object[] parts) {
+            this.parts = parts;
+            this.hash = Arrays.hashCode(parts);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Shape && Arrays.equals(parts, ((Shape) other).parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
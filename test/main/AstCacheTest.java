@@ -0,0 +1,107 @@
+package main;
+
+import main.ast.file.AstFile;
+import main.ast.nodes.Program;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AstCacheTest {
+    @TempDir
+    Path directory;
+
+    static List<Path> samples() throws IOException {
+        return SamplesTest.samples();
+    }
+
+    private static byte[] write(Program program) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AstFile.write(program, out);
+        return out.toByteArray();
+    }
+
+    //reading back and writing again gives the same bytes, so nodes, lines, names and shared types all survive
+    @ParameterizedTest
+    @MethodSource("samples")
+    void roundTrip(Path sample) throws IOException {
+        Program program = new SophiaCompiler().compile(CharStreams.fromPath(sample)).getProgram();
+        byte[] written = write(program);
+        assertArrayEquals(written, write(AstFile.read(ByteBuffer.wrap(written))));
+    }
+
+    //the second compile is served from the cache and prints the same as the first
+    @ParameterizedTest
+    @MethodSource("samples")
+    void cachedCompileMatchesGoldenOutput(Path sample) throws IOException {
+        AstCache astCache = new AstCache(directory);
+        SophiaCompiler compiler = new SophiaCompiler();
+        compiler.setAstCache(astCache);
+        String expected = SamplesTest.golden(sample);
+        assertEquals(expected, SamplesTest.output(compiler.compile(CharStreams.fromPath(sample))));
+        assertNotNull(astCache.load(astCache.key(CharStreams.fromPath(sample))));
+        assertEquals(expected, SamplesTest.output(compiler.compile(CharStreams.fromPath(sample))));
+    }
+
+    @Test
+    void keyFollowsTextAndBuild() {
+        AstCache astCache = new AstCache(directory);
+        assertNotNull(AstCache.getVersion());
+        CharStream text = CharStreams.fromString("class Main {}");
+        assertEquals(astCache.key(text), astCache.key(CharStreams.fromString("class Main {}")));
+        assertNotEquals(astCache.key(text), astCache.key(CharStreams.fromString("class Main { }")));
+    }
+
+    @Test
+    void damagedEntriesAreMisses() throws IOException {
+        Path sample = samples().get(0);
+        AstCache astCache = new AstCache(directory);
+        String key = astCache.key(CharStreams.fromPath(sample));
+        Program program = new SophiaCompiler().compile(CharStreams.fromPath(sample)).getProgram();
+        astCache.store(key, program);
+        Path entry = directory.resolve(key + ".ast");
+        byte[] written = Files.readAllBytes(entry);
+        assertNotNull(astCache.load(key));
+
+        Files.write(entry, Arrays.copyOf(written, written.length / 2));
+        assertNull(astCache.load(key));
+        byte[] wrongVersion = written.clone();
+        wrongVersion[7]++;
+        Files.write(entry, wrongVersion);
+        assertNull(astCache.load(key));
+        Files.write(entry, Arrays.copyOf(written, written.length + 1));
+        assertNull(astCache.load(key));
+        assertNull(astCache.load("missing"));
+    }
+
+    @Test
+    void wrongNodeInASlotIsAFormatError() {
+        //a program whose first class is an identifier: magic, version, PROGRAM at line 0 with one child,
+        //then IDENTIFIER at line 1 named "x"
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.putInt(0x53415354).putInt(AstFile.FORMAT_VERSION);
+        buffer.put((byte) 0).putInt(0).putInt(1);
+        buffer.put((byte) 19).putInt(1).putInt(-1).putInt(1).put((byte) 'x');
+        buffer.flip();
+        IOException error = assertThrows(IOException.class, () -> AstFile.read(buffer));
+        assertTrue(error.getMessage().startsWith("Expected ClassDeclaration"), error.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+package main;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//every sample compiles to exactly what is in test/golden, in both parse modes. a new sample needs its golden
+//output before it passes
+class SamplesTest {
+    static final Path SAMPLES = Paths.get("samples");
+    static final Path GOLDEN = Paths.get("test", "golden");
+
+    static List<Path> samples() throws IOException {
+        try(Stream<Path> files = Files.list(SAMPLES)) {
+            return files.filter(path -> path.toString().endsWith(".sop")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    static String golden(Path sample) throws IOException {
+        String name = sample.getFileName().toString().replace(".sop", ".out");
+        Path golden = GOLDEN.resolve(name);
+        assertTrue(Files.isRegularFile(golden), "no golden output for " + sample);
+        return Files.readString(golden);
+    }
+
+    static String output(CompilationResult result) {
+        StringWriter out = new StringWriter();
+        result.print(new PrintWriter(out), new PrintWriter(new StringWriter()));
+        return out.toString().replace(System.lineSeparator(), "\n");
+    }
+
+    @ParameterizedTest
+    @MethodSource("samples")
+    void matchesGoldenOutput(Path sample) throws IOException {
+        String expected = golden(sample);
+        for(ProgramParser.Mode mode : ProgramParser.Mode.values()) {
+            SophiaCompiler compiler = new SophiaCompiler();
+            compiler.setParseMode(mode);
+            CompilationResult result = compiler.compile(CharStreams.fromPath(sample));
+            assertEquals(expected, output(result), sample + " in " + mode);
+            assertEquals(expected.endsWith("Compilation successful\n") ? 0 : 1, result.getExitStatus());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package main.ast.types.list;
+
+import main.ast.nodes.expression.Identifier;
+import main.ast.types.single.IntType;
+import main.ast.types.single.StringType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ListTypeTest {
+    private final ListNameType element = new ListNameType(new Identifier(""), new IntType());
+
+    @Test
+    void readingEntriesKeepsARepeatedListCompact() {
+        ListType list = new ListType(4, element);
+        List<ListNameType> entries = list.getElementsTypes();
+        assertEquals(4, entries.size());
+        assertSame(element, entries.get(3));
+        assertTrue(list.isRepeated());
+        assertSame(element, list.getElementType(2));
+        assertEquals(4, list.getSize());
+    }
+
+    @Test
+    void entriesAreReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> new ListType(2, element).getElementsTypes().add(element));
+        ArrayList<ListNameType> elements = new ArrayList<>(List.of(element));
+        assertThrows(UnsupportedOperationException.class, () -> new ListType(elements).getElementsTypes().clear());
+    }
+
+    @Test
+    void addingToARepeatedListExpandsIt() {
+        ListType list = new ListType(2, element);
+        ListNameType added = new ListNameType(new Identifier("s"), new StringType());
+        list.addElementType(added);
+        assertEquals(3, list.getSize());
+        assertEquals(List.of(element, element, added), list.getElementsTypes());
+        assertEquals(2, list.indexOf("s"));
+    }
+
+    @Test
+    void indexOutOfRange() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new ListType(2, element).getElementType(2));
+    }
+}
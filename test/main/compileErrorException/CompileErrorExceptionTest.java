@@ -0,0 +1,53 @@
+package main.compileErrorException;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.expression.Identifier;
+import main.compileErrorException.nameErrors.ClassRedefinition;
+import main.compileErrorException.nameErrors.MethodNameConflictWithField;
+import main.compileErrorException.typeErrors.CannotHaveEmptyList;
+import main.compileErrorException.typeErrors.ContinueBreakNotInLoop;
+import main.compileErrorException.typeErrors.MemberNotAvailableInClass;
+import main.compileErrorException.typeErrors.VarNotDeclared;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+//messages built from parts read exactly as the concatenated ones did before
+class CompileErrorExceptionTest {
+
+    @Test
+    void plainMessage() {
+        assertEquals("Line:3:Cannot have empty list", new CannotHaveEmptyList(3).getMessage());
+        assertEquals("Line:0:anything", new CompileErrorException(0, "anything").getMessage());
+    }
+
+    @Test
+    void partsFollowTheMessage() {
+        assertEquals("Line:7:There is no member named x in class A", new MemberNotAvailableInClass(7, "x", "A").getMessage());
+        assertEquals("Line:2:Variable v is not declared", new VarNotDeclared(2, "v").getMessage());
+        assertEquals("Line:5:Break statement not within loop", new ContinueBreakNotInLoop(5, 0).getMessage());
+        assertEquals("Line:5:Continue statement not within loop", new ContinueBreakNotInLoop(5, 1).getMessage());
+    }
+
+    @Test
+    void partsFromNodes() {
+        ClassDeclaration classDeclaration = new ClassDeclaration(new Identifier("A"));
+        classDeclaration.setLine(4);
+        assertEquals("Line:4:Redefinition of class A", new ClassRedefinition(classDeclaration).getMessage());
+        MethodDeclaration methodDeclaration = new MethodDeclaration(new Identifier("m"), null);
+        methodDeclaration.setLine(9);
+        assertEquals("Line:9:Name of method m conflicts with a field's name",
+                new MethodNameConflictWithField(methodDeclaration).getMessage());
+    }
+
+    @Test
+    void stackless() {
+        CompileErrorException error = new VarNotDeclared(1, "v");
+        assertEquals(0, error.getStackTrace().length);
+        assertNull(error.getCause());
+        assertEquals(1, error.getLine());
+        assertEquals("VarNotDeclared", error.getCode());
+    }
+}
@@ -0,0 +1,129 @@
+package main.daemon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//requests the daemon cannot serve get an error reply instead of a compile, and it keeps serving after them
+class SophiaDaemonTest {
+    private static final String MAIN = "class Main {\n    def Main() {\n    }\n}\n";
+
+    @TempDir
+    Path directory;
+
+    private Path socketPath;
+    private Thread daemon;
+
+    @BeforeEach
+    void start() {
+        socketPath = directory.resolve("sophia.sock");
+        daemon = new Thread(() -> {
+            try {
+                new SophiaDaemon(socketPath).serve();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        daemon.start();
+    }
+
+    @AfterEach
+    void shutdown() throws IOException, InterruptedException {
+        request(out -> out.writeByte(DaemonProtocol.SHUTDOWN));
+        daemon.join(10000);
+    }
+
+    private interface Request {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static class Reply {
+        int exitStatus;
+        String compilerOutput;
+        String syntaxErrors;
+    }
+
+    //the daemon may not be listening yet
+    private SocketChannel connect() throws IOException {
+        for(int attempt = 0; ; attempt++) {
+            SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+            try {
+                channel.connect(UnixDomainSocketAddress.of(socketPath));
+                return channel;
+            } catch (IOException e) {
+                channel.close();
+                if(attempt == 500)
+                    throw e;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    private Reply request(Request request) throws IOException {
+        try (SocketChannel channel = connect()) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            request.write(out);
+            out.flush();
+            Reply reply = new Reply();
+            reply.exitStatus = in.readInt();
+            reply.compilerOutput = DaemonProtocol.readText(in, Integer.MAX_VALUE);
+            reply.syntaxErrors = DaemonProtocol.readText(in, Integer.MAX_VALUE);
+            return reply;
+        }
+    }
+
+    private Reply compile(String source) throws IOException {
+        return request(out -> {
+            out.writeByte(DaemonProtocol.COMPILE);
+            DaemonProtocol.writeText(out, "test.sop");
+            DaemonProtocol.writeText(out, source);
+        });
+    }
+
+    @Test
+    void unknownOp() throws IOException {
+        Reply reply = request(out -> {
+            out.writeByte(7);
+            DaemonProtocol.writeText(out, "test.sop");
+            DaemonProtocol.writeText(out, "class A {}");
+        });
+        assertEquals(DaemonProtocol.DAEMON_ERROR, reply.exitStatus);
+        assertEquals("", reply.compilerOutput);
+        assertTrue(reply.syntaxErrors.contains("unknown op 7"), reply.syntaxErrors);
+        assertEquals(0, compile(MAIN).exitStatus);
+    }
+
+    @Test
+    void oversizedText() throws IOException {
+        Reply reply = request(out -> {
+            out.writeByte(DaemonProtocol.COMPILE);
+            DaemonProtocol.writeText(out, "test.sop");
+            out.writeInt(Integer.MAX_VALUE);
+        });
+        assertEquals(DaemonProtocol.DAEMON_ERROR, reply.exitStatus);
+        assertTrue(reply.syntaxErrors.contains(Integer.MAX_VALUE + " bytes"), reply.syntaxErrors);
+
+        reply = request(out -> {
+            out.writeByte(DaemonProtocol.COMPILE);
+            out.writeInt(-1);
+        });
+        assertEquals(DaemonProtocol.DAEMON_ERROR, reply.exitStatus);
+        assertEquals(0, compile(MAIN).exitStatus);
+    }
+}
@@ -0,0 +1,101 @@
+package main.symbolTable;
+
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.Identifier;
+import main.ast.types.single.IntType;
+import main.symbolTable.exceptions.ItemAlreadyExistsException;
+import main.symbolTable.items.FieldSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemberTableTest {
+    private final SymbolTable root = new SymbolTable(new SymbolKeys());
+    //parent of child
+    private final SymbolTable parent = new SymbolTable(root);
+    private final SymbolTable child = new SymbolTable(parent);
+
+    private static FieldSymbolTableItem field(SymbolTable table, String name) throws ItemAlreadyExistsException {
+        FieldSymbolTableItem field = new FieldSymbolTableItem(new FieldDeclaration(new VarDeclaration(new Identifier(name), new IntType())));
+        table.put(field);
+        return field;
+    }
+
+    private static MethodSymbolTableItem method(SymbolTable table, String name) throws ItemAlreadyExistsException {
+        MethodSymbolTableItem method = new MethodSymbolTableItem(new MethodDeclaration(new Identifier(name), new IntType()));
+        table.put(method);
+        return method;
+    }
+
+    @Test
+    void nearestMemberWins() throws ItemAlreadyExistsException {
+        FieldSymbolTableItem parentField = field(parent, "x");
+        FieldSymbolTableItem childField = field(child, "x");
+        method(parent, "m");
+        MethodSymbolTableItem childMethod = method(child, "m");
+        MemberTable members = MemberTable.of(child);
+        assertSame(childField, members.getField("x"));
+        assertSame(childMethod, members.getMethod("m"));
+        assertSame(parentField, MemberTable.of(parent).getField("x"));
+        assertNull(members.get("missing"));
+    }
+
+    @Test
+    void inheritedFieldHidesOwnMethod() throws ItemAlreadyExistsException {
+        FieldSymbolTableItem parentField = field(parent, "f");
+        MethodSymbolTableItem childMethod = method(child, "f");
+        MemberTable members = MemberTable.of(child);
+        assertSame(parentField, members.get("f"));
+        assertSame(parentField, members.getField("f"));
+        assertSame(childMethod, members.getMethod("f"));
+    }
+
+    @Test
+    void ownFieldHidesInheritedMethod() throws ItemAlreadyExistsException {
+        MethodSymbolTableItem parentMethod = method(parent, "m");
+        FieldSymbolTableItem childField = field(child, "m");
+        MemberTable members = MemberTable.of(child);
+        assertSame(childField, members.get("m"));
+        assertSame(parentMethod, members.getMethod("m"));
+    }
+
+    @Test
+    void fieldLayoutPutsInheritedFieldsFirst() throws ItemAlreadyExistsException {
+        FieldSymbolTableItem childA = field(child, "a");
+        FieldSymbolTableItem parentA = field(parent, "a");
+        FieldSymbolTableItem parentB = field(parent, "b");
+        MemberTable members = MemberTable.of(child);
+        assertEquals(List.of(parentA, parentB, childA), members.getFieldLayout());
+        assertEquals(0, members.getFieldOffset(parentA));
+        assertEquals(2, members.getFieldOffset(childA));
+        assertEquals(-1, MemberTable.of(parent).getFieldOffset(childA));
+    }
+
+    @Test
+    void staleAfterAChange() throws ItemAlreadyExistsException {
+        MemberTable members = MemberTable.of(child);
+        assertTrue(members.isCurrent(child));
+        field(parent, "late");
+        assertFalse(members.isCurrent(child));
+        assertEquals("late", MemberTable.of(child).getField("late").getName());
+    }
+
+    @Test
+    void cyclicChainIsWalkedOnce() throws ItemAlreadyExistsException {
+        FieldSymbolTableItem parentField = field(parent, "x");
+        field(child, "x");
+        parent.setPre(child);
+        MemberTable members = MemberTable.of(parent);
+        assertSame(parentField, members.getField("x"));
+        assertEquals(2, members.getFieldLayout().size());
+    }
+}
@@ -0,0 +1,120 @@
+package main.symbolTable.utils.graph;
+
+import main.symbolTable.utils.graph.exceptions.GraphDoesNotContainNodeException;
+import main.symbolTable.utils.graph.exceptions.NodeAlreadyExistsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphTest {
+    private final Graph<String> graph = new Graph<>();
+
+    private void extend(String child, String parent) throws NodeAlreadyExistsException, GraphDoesNotContainNodeException {
+        if(!graph.doesGraphContainNode(child))
+            graph.addNode(child);
+        graph.addNodeAsParentOf(child, parent);
+    }
+
+    @Test
+    void twoClassCycle() throws Exception {
+        extend("A", "B");
+        extend("B", "A");
+        extend("C", "A");
+        assertTrue(graph.isInCycleWithParent("A", "B"));
+        assertTrue(graph.isInCycleWithParent("B", "A"));
+        //C only hangs off the cycle
+        assertFalse(graph.isInCycleWithParent("C", "A"));
+    }
+
+    @Test
+    void selfLoop() throws Exception {
+        extend("C", "C");
+        assertTrue(graph.isInCycleWithParent("C", "C"));
+    }
+
+    @Test
+    void chainWithoutCycle() throws Exception {
+        extend("A", "B");
+        extend("B", "C");
+        graph.addNode("C");
+        assertFalse(graph.isInCycleWithParent("A", "B"));
+        assertFalse(graph.isInCycleWithParent("B", "C"));
+        assertTrue(graph.isSecondNodeAncestorOf("A", "C"));
+        assertFalse(graph.isSecondNodeAncestorOf("C", "A"));
+    }
+
+    @Test
+    void undeclaredParent() throws Exception {
+        extend("A", "Missing");
+        assertFalse(graph.isInCycleWithParent("A", "Missing"));
+        assertTrue(graph.isSecondNodeAncestorOf("A", "Missing"));
+        assertFalse(graph.isSecondNodeAncestorOf("Missing", "A"));
+    }
+
+    @Test
+    void answersFollowLaterEdges() throws Exception {
+        extend("A", "B");
+        graph.addNode("B");
+        assertFalse(graph.isInCycleWithParent("A", "B"));
+        graph.addNodeAsParentOf("B", "A");
+        assertTrue(graph.isInCycleWithParent("A", "B"));
+    }
+
+    @Test
+    void deepChainDoesNotOverflow() throws Exception {
+        int depth = 200_000;
+        for(int i = 0; i < depth; i++)
+            extend("N" + i, "N" + (i + 1));
+        extend("N" + depth, "N0");
+        assertTrue(graph.isInCycleWithParent("N0", "N1"));
+        assertTrue(graph.isSecondNodeAncestorOf("N" + depth, "N" + (depth / 2)));
+    }
+
+    //both queries against a search over the parent edges, on random graphs with several parents per node. a
+    //cycle is only asked about for edges the graph has, which is how the name checker asks
+    @Test
+    void matchesSearchOnRandomGraphs() throws Exception {
+        Random random = new Random(16);
+        for(int round = 0; round < 300; round++) {
+            Graph<Integer> randomGraph = new Graph<>();
+            int size = 1 + random.nextInt(12);
+            for(int node = 0; node < size; node++)
+                randomGraph.addNode(node);
+            int edges = random.nextInt(2 * size);
+            for(int i = 0; i < edges; i++)
+                randomGraph.addNodeAsParentOf(random.nextInt(size), random.nextInt(size + 2));
+            for(int child = 0; child < size; child++) {
+                for(int other = 0; other < size + 2; other++)
+                    assertEquals(searches(randomGraph, child, other), randomGraph.isSecondNodeAncestorOf(child, other),
+                            "round " + round + ": " + child + " to " + other);
+                for(int parent : randomGraph.getParentsOfNode(child))
+                    assertEquals(searches(randomGraph, parent, child), randomGraph.isInCycleWithParent(child, parent),
+                            "round " + round + ": " + child + " -> " + parent);
+            }
+        }
+    }
+
+    private static boolean searches(Graph<Integer> graph, int from, int to) throws GraphDoesNotContainNodeException {
+        Set<Integer> seen = new HashSet<>();
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(from);
+        while(!pending.isEmpty()) {
+            int node = pending.pop();
+            if(node == to)
+                return true;
+            if(!seen.add(node) || !graph.doesGraphContainNode(node))
+                continue;
+            for(int parent : graph.getParentsOfNode(node))
+                pending.push(parent);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,86 @@
+package main.visitor.nameAnalyzer;
+
+import main.SophiaCompiler;
+import org.antlr.v4.runtime.CharStreams;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//method and field name conflicts found through the index of classes declaring each field name; expected
+//diagnostics are what the compiler printed before the index
+class NameCheckerTest {
+    private static final String MAIN = "class Main {\n    def Main() {\n        print(1);\n    }\n}\n";
+
+    private static List<String> diagnostics(String source) {
+        return new SophiaCompiler().compile(CharStreams.fromString(source + MAIN)).getDiagnostics();
+    }
+
+    @Test
+    void fieldInAnyDescendantConflicts() {
+        String source = ""
+                + "class A {\n"                                    //1
+                + "    def int f() {\n"                            //2
+                + "        return 1;\n"
+                + "    }\n"
+                + "    def int g() {\n"                            //5
+                + "        return 1;\n"
+                + "    }\n"
+                + "    def int h() {\n"                            //8
+                + "        return 1;\n"
+                + "    }\n"
+                + "}\n"
+                + "class B extends A {\n"
+                + "    f: int;\n"
+                + "}\n"
+                + "class C extends B {\n"
+                + "    g: int;\n"
+                + "}\n"
+                + "class D {\n"
+                + "    h: int;\n"
+                + "}\n";
+        assertEquals(List.of(
+                "Line:2:Name of method f conflicts with a field's name",
+                "Line:5:Name of method g conflicts with a field's name"), diagnostics(source));
+    }
+
+    @Test
+    void fieldUpTheChainConflicts() {
+        String source = ""
+                + "class A {\n"
+                + "    f: int;\n"
+                + "}\n"
+                + "class B extends A {\n"
+                + "    def int f() {\n"                            //5
+                + "        return 2;\n"
+                + "    }\n"
+                + "}\n";
+        assertEquals(List.of("Line:5:Name of method f conflicts with a field's name"), diagnostics(source));
+    }
+
+    @Test
+    void cycleAndUndeclaredParent() {
+        String source = ""
+                + "class X extends Y {\n"                          //1
+                + "    def int m() {\n"                            //2
+                + "        return 1;\n"
+                + "    }\n"
+                + "}\n"
+                + "class Y extends X {\n"                          //6
+                + "    m: int;\n"
+                + "}\n"
+                + "class Z extends Missing {\n"
+                + "    n: int;\n"
+                + "}\n"
+                + "class W {\n"
+                + "    def int n() {\n"
+                + "        return 1;\n"
+                + "    }\n"
+                + "}\n";
+        assertEquals(List.of(
+                "Line:1:Class X is in an inheritance cycle",
+                "Line:2:Name of method m conflicts with a field's name",
+                "Line:6:Class Y is in an inheritance cycle"), diagnostics(source));
+    }
+}
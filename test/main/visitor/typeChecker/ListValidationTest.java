@@ -0,0 +1,87 @@
+package main.visitor.typeChecker;
+
+import main.SophiaCompiler;
+import org.antlr.v4.runtime.CharStreams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//a valid list(n # type) checks its element once, an invalid one still reports as often and in the same order
+//as when each of the n entries was checked; the expected diagnostics are what the compiler printed before
+class ListValidationTest {
+
+    //ten billion entries in the nested lists: only done in time if no phase goes through them one by one
+    @Test
+    @Timeout(10)
+    void validRepeatedListsDoNotDependOnTheirSize() {
+        String source = ""
+                + "class Main {\n"
+                + "  f: list(100000 # list(100000 # int));\n"
+                + "  def list(100000 # list(100000 # int)) get(p: list(100000 # list(100000 # int))) {\n"
+                + "    l: list(100000 # list(100000 # int));\n"
+                + "    l = p;\n"
+                + "    this.f = l;\n"
+                + "    l[3][4] = 5;\n"
+                + "    return l;\n"
+                + "  }\n"
+                + "  def Main() {\n"
+                + "    g: list(10000000 # int);\n"
+                + "    print(g[9999999] + this.get(this.f)[0][1]);\n"
+                + "  }\n"
+                + "}\n";
+        assertTrue(new SophiaCompiler().compile(CharStreams.fromString(source)).isSuccessful());
+    }
+
+    @Test
+    void repeatedListsReportOncePerEntry() {
+        String source = ""
+                + "class A {\n"
+                + "  f: list(3 # Undecl);\n"
+                + "  g: list(0 # int);\n"
+                + "  h: list(2 # list(3 # Bad));\n"
+                + "  k: list(2 # list(a: int, a: bool));\n"
+                + "  e: list(Bad2, int, Bad2);\n"
+                + "  def list(3 # Bad3) mth(p: list(2 # Bad4), q: list(3 # list(x: int, x: int))) {\n"
+                + "    l: list(2 # list(2 # Zed));\n"
+                + "    return this.mth(p, q);\n"
+                + "  }\n"
+                + "}\n"
+                + "class Main {\n"
+                + "  def Main() {\n"
+                + "    print(1);\n"
+                + "  }\n"
+                + "}\n";
+        List<String> expected = List.of(
+                "Line:2:Class Undecl is not declared",
+                "Line:2:Class Undecl is not declared",
+                "Line:2:Class Undecl is not declared",
+                "Line:3:Cannot have empty list",
+                "Line:4:Class Bad is not declared",
+                "Line:4:Class Bad is not declared",
+                "Line:4:Class Bad is not declared",
+                "Line:4:Class Bad is not declared",
+                "Line:4:Class Bad is not declared",
+                "Line:4:Class Bad is not declared",
+                "Line:5:List elements cannot have the same id",
+                "Line:5:List elements cannot have the same id",
+                "Line:6:Class Bad2 is not declared",
+                "Line:6:Class Bad2 is not declared",
+                "Line:7:Class Bad3 is not declared",
+                "Line:7:Class Bad3 is not declared",
+                "Line:7:Class Bad3 is not declared",
+                "Line:7:Class Bad4 is not declared",
+                "Line:7:Class Bad4 is not declared",
+                "Line:7:List elements cannot have the same id",
+                "Line:7:List elements cannot have the same id",
+                "Line:7:List elements cannot have the same id",
+                "Line:8:Class Zed is not declared",
+                "Line:8:Class Zed is not declared",
+                "Line:8:Class Zed is not declared",
+                "Line:8:Class Zed is not declared");
+        assertEquals(expected, new SophiaCompiler().compile(CharStreams.fromString(source)).getDiagnostics());
+    }
+}
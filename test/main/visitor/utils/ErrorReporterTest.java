@@ -0,0 +1,74 @@
+package main.visitor.utils;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.Identifier;
+import main.ast.nodes.statement.ReturnStmt;
+import main.ast.types.single.IntType;
+import main.compileErrorException.CompileErrorException;
+import main.compileErrorException.DiagnosticSink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//errors come out in the order a pre-order walk of the program reaches their nodes, whatever order they were
+//added in and whatever order the nodes were attached in
+class ErrorReporterTest {
+
+    @AfterEach
+    void closeSink() {
+        DiagnosticSink.close();
+    }
+
+    private static List<String> report(DiagnosticSink sink) {
+        List<String> reported = new ArrayList<>();
+        new ErrorReporter(e -> reported.add(e.getMessage())).report(sink);
+        return reported;
+    }
+
+    @Test
+    void preOrderOfTheProgram() {
+        Program program = new Program();
+        ClassDeclaration classDeclaration = new ClassDeclaration(new Identifier("A"));
+        program.addClass(classDeclaration);
+        //a method before a field in the source, but fields are walked first
+        MethodDeclaration methodDeclaration = new MethodDeclaration(new Identifier("m"), null);
+        ReturnStmt returnStmt = new ReturnStmt();
+        methodDeclaration.addBodyStatement(returnStmt);
+        classDeclaration.addMethod(methodDeclaration);
+        FieldDeclaration fieldDeclaration = new FieldDeclaration(new VarDeclaration(new Identifier("f"), new IntType()));
+        classDeclaration.addField(fieldDeclaration);
+
+        DiagnosticSink sink = DiagnosticSink.open();
+        returnStmt.getReturnedExpr().addError(new CompileErrorException(0, "returned"));
+        returnStmt.addError(new CompileErrorException(0, "return"));
+        methodDeclaration.getMethodName().addError(new CompileErrorException(0, "method name"));
+        fieldDeclaration.getVarDeclaration().getVarName().addError(new CompileErrorException(0, "field name"));
+        classDeclaration.addError(new CompileErrorException(0, "class"));
+        assertEquals(List.of("Line:0:class", "Line:0:field name", "Line:0:method name", "Line:0:return", "Line:0:returned"), report(sink));
+    }
+
+    @Test
+    void replacedAndDetachedNodesAreNotReported() {
+        Program program = new Program();
+        ClassDeclaration classDeclaration = new ClassDeclaration(new Identifier("A"));
+        program.addClass(classDeclaration);
+        Identifier replaced = new Identifier("B");
+        classDeclaration.setParentClassName(replaced);
+        classDeclaration.setParentClassName(new Identifier("C"));
+        Identifier detached = new Identifier("D");
+
+        DiagnosticSink sink = DiagnosticSink.open();
+        replaced.addError(new CompileErrorException(0, "replaced"));
+        detached.addError(new CompileErrorException(0, "detached"));
+        classDeclaration.getParentClassName().addError(new CompileErrorException(0, "parent"));
+        assertEquals(List.of("Line:0:parent"), report(sink));
+    }
+}